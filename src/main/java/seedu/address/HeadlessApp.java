@@ -0,0 +1,80 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandStreamRunner;
+
+/**
+ * Runs the application without a window, and without starting JavaFX.
+ *
+ * Commands are read from standard input, one per line, and their results are written to standard output, so that
+ * other programs can drive the application on hosts without a display. Log messages go to standard error.
+ */
+public class HeadlessApp extends MainApp {
+
+    public static final String HEADLESS_FLAG = "--headless";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    /**
+     * Starts the application with the command-line parameters in {@code args}, and exits once standard input ends
+     * or an {@code exit} command is run. The exit status is 1 if any command failed.
+     */
+    public static void main(String[] args) {
+        int exitStatus = new HeadlessApp().run(parseNamedParameters(args));
+        System.exit(exitStatus);
+    }
+
+    /**
+     * Returns the parameters of the form {@code --name=value} in {@code args}, the same way JavaFX reads them.
+     */
+    static Map<String, String> parseNamedParameters(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith("--") && separatorIndex > 2) {
+                namedParameters.put(arg.substring(2, separatorIndex), arg.substring(separatorIndex + 1));
+            }
+        }
+        return namedParameters;
+    }
+
+    private int run(Map<String, String> namedParameters) {
+        logger.info("=========================[ Initializing ElderRing (headless) ]========================");
+        initComponents(AppParameters.parse(namedParameters));
+
+        int failedCount = 0;
+        if (scriptPath != null) {
+            runScript();
+        } else {
+            BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+            PrintWriter out = new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+            PrintWriter err = new PrintWriter(new OutputStreamWriter(System.err, StandardCharsets.UTF_8));
+            try {
+                failedCount = new CommandStreamRunner(logic).run(in, out, err);
+            } catch (IOException e) {
+                logger.severe("Failed to read commands from standard input: " + StringUtil.getDetails(e));
+                failedCount++;
+            }
+        }
+
+        stop();
+        return failedCount > 0 || isScriptFailed ? 1 : 0;
+    }
+
+    @Override
+    protected boolean shouldWatchDataFile() {
+        // Reloaded changes are applied on the JavaFX application thread, which is never started here
+        return false;
+    }
+}
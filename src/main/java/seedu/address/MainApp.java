@@ -6,7 +6,9 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import seedu.address.api.HttpApiServer;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
@@ -15,6 +17,10 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -23,11 +29,18 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BackgroundAddressBookSaver;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.ChecksummedAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SegmentedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WarmStartAddressBookStorage;
+import seedu.address.storage.WatchedAddressBookStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -45,26 +58,120 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected BackgroundAddressBookSaver backgroundSaver;
+    protected WatchedAddressBookStorage dataFileWatcher;
+    protected HttpApiServer httpApiServer;
+    protected Path configFilePath;
+    protected Path scriptPath;
+    protected boolean isScriptFailed;
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing ElderRing ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+        initComponents(AppParameters.parse(getParameters()));
+        ui = new UiManager(logic);
+    }
+
+    /**
+     * Creates the config, storage, model and logic of the application from {@code appParameters},
+     * without touching the UI.
+     */
+    protected void initComponents(AppParameters appParameters) {
         config = initConfig(appParameters.getConfigPath());
+        configFilePath = appParameters.getConfigPath() != null
+                ? appParameters.getConfigPath()
+                : Config.DEFAULT_CONFIG_FILE;
+        scriptPath = appParameters.getScriptPath();
         initLogging(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs.getAddressBookFilePath());
+        if (shouldWatchDataFile()) {
+            dataFileWatcher = new WatchedAddressBookStorage(addressBookStorage);
+            addressBookStorage = dataFileWatcher;
+        }
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        if (config.getSaveDelayMillis() > 0) {
+            backgroundSaver = new BackgroundAddressBookSaver(storage, config.getSaveDelayMillis(),
+                    config.getMaxPendingChanges());
+        }
+        logic = new LogicManager(model, storage, backgroundSaver);
+        startWatchingDataFile();
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Returns true if changes other programs make to the data file should be reloaded into the model.
+     */
+    protected boolean shouldWatchDataFile() {
+        return scriptPath == null && config.isDataFileWatched()
+                && config.getStorageFormat() == Config.StorageFormat.JSON;
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} for the storage format and entry limit in {@code config}.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, Path addressBookFilePath) {
+        logger.info("Using " + config.getStorageFormat() + " storage with an entry limit of "
+                + (config.getMaxPersons() > 0 ? config.getMaxPersons() : "none"));
+
+        switch (config.getStorageFormat()) {
+        case SEGMENTED:
+            return new SegmentedAddressBookStorage(addressBookFilePath, config.getMaxPersons());
+        case JOURNALED:
+            return new JournaledAddressBookStorage(addressBookFilePath, config.getMaxPersons(),
+                    JournaledAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD, config.getPrettyPrintMaxPersons(),
+                    config.getDurabilityPolicy());
+        case BINARY:
+            return new BinaryAddressBookStorage(addressBookFilePath, config.getMaxPersons());
+        case CHECKSUMMED:
+            return new ChecksummedAddressBookStorage(addressBookFilePath, config.getMaxPersons());
+        case JSON:
+        default:
+            JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(addressBookFilePath, config.getMaxPersons(),
+                    config.getPrettyPrintMaxPersons(), config.getDurabilityPolicy());
+            return config.isWarmStartCacheEnabled()
+                    ? new WarmStartAddressBookStorage(jsonStorage, config.getMaxPersons())
+                    : jsonStorage;
+        }
+    }
+
+    /**
+     * Starts reloading the changes other programs make to the data file, if the data file is watched.
+     * Each change is merged into the model on the JavaFX application thread, person by person.
+     */
+    private void startWatchingDataFile() {
+        if (dataFileWatcher == null) {
+            return;
+        }
+        try {
+            dataFileWatcher.startWatching(addressBook -> Platform.runLater(() -> reloadDataFile(addressBook)));
+        } catch (IOException e) {
+            logger.warning("Failed to watch the data file for outside changes: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Merges {@code addressBook}, read after an outside change to the data file, into the model.
+     * The change is skipped if the application has changes of its own that are saved, or about to be saved, over it,
+     * since merging it would drop those changes from the model while the file keeps them.
+     */
+    private void reloadDataFile(ReadOnlyAddressBook addressBook) {
+        boolean hasUnsavedChanges = backgroundSaver != null && backgroundSaver.hasPendingChanges();
+        if (hasUnsavedChanges || dataFileWatcher.isSavedSinceOutsideChange()) {
+            logger.warning("Not reloading the outside change to the data file, as changes made in the application "
+                    + "since are saved over it");
+            return;
+        }
+
+        int changeCount = model.syncAddressBook(addressBook);
+        model.commitSnapshot();
+        logger.info("Reloaded the data file with " + changeCount + " changed persons");
     }
 
     /**
@@ -113,8 +220,10 @@ public class MainApp extends Application {
                 storage.saveAddressBook(initialData);
                 logger.info("Data has been saved to file: " + storage.getAddressBookFilePath());
                 int personCount = initialData.getPersonList().size();
-                if (personCount >= 250) {
-                    logger.info("Address book is at or near capacity (" + personCount + "/250 entries)");
+                int maxPersons = config.getMaxPersons();
+                if (maxPersons > 0 && personCount >= maxPersons) {
+                    logger.info("Address book is at or near capacity (" + personCount + "/" + maxPersons
+                            + " entries)");
                 }
             } catch (IOException e) {
                 logger.warning("Failed to save data to file: " + StringUtil.getDetails(e));
@@ -218,16 +327,74 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting ElderRing v1.6");
+        if (scriptPath != null) {
+            runScript();
+            Platform.exit();
+            return;
+        }
         ui.start(primaryStage);
+        startHttpApi();
+    }
+
+    /**
+     * Starts serving the HTTP API, if a port for it is set in the config.
+     * Commands sent to it are run on the JavaFX application thread, like those typed into the window.
+     * The token clients must send is written to a file next to the config file.
+     */
+    private void startHttpApi() {
+        if (config.getHttpApiPort() <= 0) {
+            return;
+        }
+        try {
+            String token = HttpApiServer.generateToken();
+            Path tokenFile = configFilePath.toAbsolutePath().resolveSibling(HttpApiServer.TOKEN_FILE_NAME);
+            HttpApiServer.writeTokenFile(tokenFile, token);
+            httpApiServer = new HttpApiServer(logic, Platform::runLater, config.getHttpApiPort(), token);
+            httpApiServer.start();
+            logger.info("Wrote the HTTP API token to " + tokenFile);
+        } catch (IOException e) {
+            logger.warning("Failed to serve the HTTP API: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Runs the script given on the command line as a single {@code run} command, without showing the window,
+     * and prints its report.
+     */
+    protected void runScript() {
+        logger.info("Running script " + scriptPath);
+        try {
+            CommandResult result = logic.execute(RunCommand.COMMAND_WORD + " " + scriptPath);
+            System.out.println(result.getFeedbackToUser());
+        } catch (CommandException | ParseException e) {
+            isScriptFailed = true;
+            System.err.println(e.getMessage());
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping ElderRing ] =============================");
+        if (httpApiServer != null) {
+            httpApiServer.stop();
+        }
+        if (dataFileWatcher != null) {
+            dataFileWatcher.stopWatching();
+        }
+        if (backgroundSaver != null) {
+            try {
+                backgroundSaver.close();
+            } catch (IOException e) {
+                logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+            }
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        if (isScriptFailed) {
+            System.exit(1);
+        }
     }
 }
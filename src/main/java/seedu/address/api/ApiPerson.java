@@ -0,0 +1,42 @@
+package seedu.address.api;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of {@link Person}, as returned by the HTTP API.
+ */
+class ApiPerson {
+
+    @JsonProperty
+    private final String name;
+    @JsonProperty
+    private final String phone;
+    @JsonProperty
+    private final String email;
+    @JsonProperty
+    private final String address;
+    @JsonProperty
+    private final String remark;
+    @JsonProperty
+    private final List<String> tags;
+
+    /**
+     * Converts a given {@code Person} into this class for Jackson use.
+     */
+    ApiPerson(Person source) {
+        name = source.getName().fullName;
+        phone = source.getPhone().value;
+        email = source.getEmail().value;
+        address = source.getAddress().value;
+        remark = source.getRemark().value;
+        tags = source.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+}
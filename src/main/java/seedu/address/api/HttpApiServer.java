@@ -0,0 +1,350 @@
+package seedu.address.api;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Serves the address book to other programs on the same computer over HTTP.
+ *
+ * {@code GET /persons} returns the seniors as a json array, optionally narrowed by the query parameters {@code name}
+ * (any of the given words), {@code tag} and {@code phone}. It is answered from the latest snapshot of the
+ * {@code Logic}, so reads never wait for the UI and never see a command half done. {@code POST /commands} runs the
+ * command in the request body through the {@code Logic} on the command executor, which is the JavaFX application
+ * thread in the app, and returns its feedback. Only the loopback address is listened on.
+ *
+ * Every request must carry the token of the server in the {@value #TOKEN_HEADER} header. The token is made anew on
+ * every launch and written to a file that only the user can read, so other users of the computer cannot send
+ * commands. Requests with an {@code Origin} header, which browsers add to requests from web pages, and requests
+ * addressed to a host name other than a loopback one, as a DNS rebinding attack would send, are refused as well.
+ */
+public class HttpApiServer {
+
+    public static final String PERSONS_PATH = "/persons";
+    public static final String TOKEN_HEADER = "X-Api-Token";
+    public static final String TOKEN_FILE_NAME = "http-api-token";
+    public static final String COMMANDS_PATH = "/commands";
+    public static final String PARAMETER_NAME = "name";
+    public static final String PARAMETER_TAG = "tag";
+    public static final String PARAMETER_PHONE = "phone";
+    public static final long COMMAND_TIMEOUT_SECONDS = 30;
+
+    public static final String MESSAGE_UNAUTHORIZED = "The request must carry the token of this launch in the "
+            + TOKEN_HEADER + " header.";
+    public static final String MESSAGE_FORBIDDEN_ORIGIN = "Requests from web pages are not accepted.";
+    public static final String MESSAGE_FORBIDDEN_HOST = "Requests must be addressed to localhost or 127.0.0.1.";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "Use %1$s for %2$s.";
+    public static final String MESSAGE_UNKNOWN_PARAMETER = "Unknown query parameter %1$s.";
+    public static final String MESSAGE_INVALID_TAG = "The tag to filter by cannot be empty.";
+    public static final String MESSAGE_EMPTY_COMMAND = "The request body must hold a command.";
+    public static final String MESSAGE_COMMAND_TIMEOUT = "The command did not finish within %1$d seconds.";
+
+    private static final Logger logger = LogsCenter.getLogger(HttpApiServer.class);
+    private static final Set<String> LOOPBACK_HOSTS = Set.of("localhost", "127.0.0.1", "[::1]");
+    private static final int TOKEN_BYTES = 32;
+
+    private final Logic logic;
+    private final Executor commandExecutor;
+    private final byte[] token;
+    private final HttpServer server;
+    private final ExecutorService requestExecutor;
+
+    /**
+     * Creates an {@code HttpApiServer} on the loopback address at {@code port}, or at any free port if it is zero,
+     * that runs commands on {@code commandExecutor} and only answers requests carrying {@code token}.
+     * The server does not answer requests until it is started.
+     *
+     * @throws IOException if the port cannot be listened on.
+     */
+    public HttpApiServer(Logic logic, Executor commandExecutor, int port, String token) throws IOException {
+        requireAllNonNull(logic, commandExecutor, token);
+        this.logic = logic;
+        this.commandExecutor = commandExecutor;
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext(PERSONS_PATH, checked(this::handlePersons));
+        server.createContext(COMMANDS_PATH, checked(this::handleCommand));
+        // Each request gets a thread of its own, so a slow client never holds up the others
+        requestExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "http-api");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(requestExecutor);
+    }
+
+    /**
+     * Returns a new random token, to be handed to the clients of one launch.
+     */
+    public static String generateToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Writes {@code token} to {@code tokenFile}, replacing the file if it exists. On file systems with POSIX
+     * permissions, the file is created readable by its owner only, so the token is never visible to other users.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    public static void writeTokenFile(Path tokenFile, String token) throws IOException {
+        requireAllNonNull(tokenFile, token);
+        FileUtil.createParentDirsOfFile(tokenFile);
+        Files.deleteIfExists(tokenFile);
+        if (tokenFile.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(tokenFile,
+                    PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        }
+        FileUtil.writeToFile(tokenFile, token);
+    }
+
+    /**
+     * Starts answering requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("Serving the HTTP API at http://" + server.getAddress().getHostString() + ":" + getPort());
+    }
+
+    /**
+     * Stops answering requests, and waits up to a second for the requests being answered to finish.
+     */
+    public void stop() {
+        server.stop(1);
+        requestExecutor.shutdownNow();
+    }
+
+    /**
+     * Returns the port the server listens on.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns a handler that refuses requests from web pages, to other host names or without the token, and passes
+     * the others on to {@code handler}.
+     */
+    private HttpHandler checked(HttpHandler handler) {
+        return exchange -> {
+            Headers headers = exchange.getRequestHeaders();
+            String suppliedToken = headers.getFirst(TOKEN_HEADER);
+            if (headers.containsKey("Origin")) {
+                refuse(exchange, 403, MESSAGE_FORBIDDEN_ORIGIN);
+            } else if (!isLoopbackHost(headers.getFirst("Host"))) {
+                refuse(exchange, 403, MESSAGE_FORBIDDEN_HOST);
+            } else if (suppliedToken == null
+                    || !MessageDigest.isEqual(token, suppliedToken.getBytes(StandardCharsets.UTF_8))) {
+                refuse(exchange, 401, MESSAGE_UNAUTHORIZED);
+            } else {
+                handler.handle(exchange);
+            }
+        };
+    }
+
+    /**
+     * Returns true if the {@code Host} header value {@code host} names a loopback host, with or without a port.
+     */
+    static boolean isLoopbackHost(String host) {
+        if (host == null) {
+            return false;
+        }
+        int portIndex = host.startsWith("[") ? host.indexOf(']') + 1 : host.indexOf(':');
+        String hostName = portIndex > 0 ? host.substring(0, portIndex) : host;
+        return LOOPBACK_HOSTS.contains(hostName.toLowerCase(Locale.ROOT));
+    }
+
+    private static void refuse(HttpExchange exchange, int status, String message) throws IOException {
+        try {
+            sendError(exchange, status, message);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handlePersons(HttpExchange exchange) throws IOException {
+        try {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                sendError(exchange, 405, String.format(MESSAGE_METHOD_NOT_ALLOWED, "GET", PERSONS_PATH));
+                return;
+            }
+
+            List<Person> matches;
+            try {
+                matches = findPersons(logic.getSnapshot(), parseQuery(exchange.getRequestURI().getRawQuery()));
+            } catch (IllegalArgumentException e) {
+                sendError(exchange, 400, e.getMessage());
+                return;
+            }
+
+            List<ApiPerson> persons = matches.stream()
+                    .map(ApiPerson::new)
+                    .collect(Collectors.toList());
+            sendJson(exchange, 200, persons);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Returns the persons in {@code snapshot} matching all of the query parameters in {@code query}.
+     * A phone number or tag is looked up in the index of the snapshot, so only the persons found there are checked
+     * against the other parameters.
+     *
+     * @throws IllegalArgumentException if the query has an unknown parameter or an invalid value.
+     */
+    static List<Person> findPersons(AddressBookSnapshot snapshot, Map<String, String> query) {
+        List<Person> candidates = snapshot.getPersons();
+        Predicate<Person> predicate = person -> true;
+        for (Map.Entry<String, String> parameter : query.entrySet()) {
+            String value = parameter.getValue().trim();
+            switch (parameter.getKey()) {
+            case PARAMETER_NAME:
+                predicate = predicate.and(new NameContainsKeywordsPredicate(Arrays.asList(value.split("\\s+"))));
+                break;
+            case PARAMETER_TAG:
+                if (!Tag.isValidTagContent(value)) {
+                    throw new IllegalArgumentException(MESSAGE_INVALID_TAG);
+                }
+                Tag tag = new Tag(value);
+                predicate = predicate.and(person -> person.getTags().contains(tag));
+                if (!query.containsKey(PARAMETER_PHONE)) {
+                    candidates = snapshot.getPersonsWithTag(tag);
+                }
+                break;
+            case PARAMETER_PHONE:
+                predicate = predicate.and(person -> person.getPhone().value.equals(value));
+                candidates = snapshot.getPersonsWithPhone(value);
+                break;
+            default:
+                throw new IllegalArgumentException(String.format(MESSAGE_UNKNOWN_PARAMETER, parameter.getKey()));
+            }
+        }
+        return candidates.stream()
+                .filter(predicate)
+                .collect(Collectors.toList());
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, String> parameters = new HashMap<>();
+        for (String pair : rawQuery.split("&")) {
+            int separatorIndex = pair.indexOf('=');
+            String key = separatorIndex < 0 ? pair : pair.substring(0, separatorIndex);
+            String value = separatorIndex < 0 ? "" : pair.substring(separatorIndex + 1);
+            parameters.put(URLDecoder.decode(key, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    private void handleCommand(HttpExchange exchange) throws IOException {
+        try {
+            if (!exchange.getRequestMethod().equals("POST")) {
+                sendError(exchange, 405, String.format(MESSAGE_METHOD_NOT_ALLOWED, "POST", COMMANDS_PATH));
+                return;
+            }
+
+            String commandText;
+            try (InputStream in = exchange.getRequestBody()) {
+                commandText = new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+            }
+            if (commandText.isEmpty()) {
+                sendError(exchange, 400, MESSAGE_EMPTY_COMMAND);
+                return;
+            }
+
+            CompletableFuture<CommandResult> result = new CompletableFuture<>();
+            commandExecutor.execute(() -> {
+                try {
+                    result.complete(logic.execute(commandText));
+                } catch (CommandException | ParseException | RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            });
+
+            try {
+                String feedback = result.get(COMMAND_TIMEOUT_SECONDS, TimeUnit.SECONDS).getFeedbackToUser();
+                sendJson(exchange, 200, Collections.singletonMap("feedback", feedback));
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof CommandException || e.getCause() instanceof ParseException) {
+                    sendError(exchange, 400, e.getCause().getMessage());
+                } else {
+                    logger.warning("Command from the HTTP API failed: " + StringUtil.getDetails(e.getCause()));
+                    sendError(exchange, 500, String.valueOf(e.getCause()));
+                }
+            } catch (TimeoutException e) {
+                sendError(exchange, 503, String.format(MESSAGE_COMMAND_TIMEOUT, COMMAND_TIMEOUT_SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        sendJson(exchange, status, Collections.singletonMap("error", message));
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = JsonUtil.toCompactJsonBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -13,10 +13,55 @@ import seedu.address.commons.util.ToStringBuilder;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final int DEFAULT_MAX_PERSONS = 250;
+    public static final int DEFAULT_PRETTY_PRINT_MAX_PERSONS = 1000;
+    public static final long DEFAULT_SAVE_DELAY_MILLIS = 500;
+    public static final int DEFAULT_MAX_PENDING_CHANGES = 20;
+
+    /**
+     * The formats in which the address book can be stored.
+     */
+    public enum StorageFormat {
+        /** The whole address book in a single json file, rewritten on every save. */
+        JSON,
+        /** The address book split across json lines segment files, of which only changed ones are rewritten. */
+        SEGMENTED,
+        /** A json snapshot of the address book plus an append-only journal of the changes made since. */
+        JOURNALED,
+        /** A compact binary file of the address book, read with one bulk read and decoded in place. */
+        BINARY,
+        /** The address book as json lines, each with its own checksum, so damage only loses the records it hits. */
+        CHECKSUMMED
+    }
+
+    /**
+     * How hard a save tries to get the address book onto the storage device before it returns.
+     * Every policy replaces the data file atomically, so a crash never leaves it half written.
+     */
+    public enum DurabilityPolicy {
+        /** Every save is forced to the storage device, so no saved change is lost on power loss. */
+        ALWAYS,
+        /**
+         * Saves are forced at most once per second, and a save that is not forced right away is forced once the second
+         * is over, so a power loss may lose the changes of the last second.
+         */
+        BATCHED,
+        /** Saves are never forced and reach the storage device whenever the operating system writes them out. */
+        NONE
+    }
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private int maxPersons = DEFAULT_MAX_PERSONS;
+    private StorageFormat storageFormat = StorageFormat.JSON;
+    private long saveDelayMillis = DEFAULT_SAVE_DELAY_MILLIS;
+    private int maxPendingChanges = DEFAULT_MAX_PENDING_CHANGES;
+    private int prettyPrintMaxPersons = DEFAULT_PRETTY_PRINT_MAX_PERSONS;
+    private DurabilityPolicy durabilityPolicy = DurabilityPolicy.ALWAYS;
+    private boolean warmStartCacheEnabled = true;
+    private boolean dataFileWatched = true;
+    private int httpApiPort = 0;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +79,103 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the maximum number of persons kept when loading and saving the address book.
+     * A value of zero or less means that there is no limit.
+     */
+    public int getMaxPersons() {
+        return maxPersons;
+    }
+
+    public void setMaxPersons(int maxPersons) {
+        this.maxPersons = maxPersons;
+    }
+
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(StorageFormat storageFormat) {
+        this.storageFormat = storageFormat;
+    }
+
+    /**
+     * Returns the longest time a change to the address book may wait before it is saved in the background.
+     * A value of zero or less means that every change is saved before its command returns.
+     */
+    public long getSaveDelayMillis() {
+        return saveDelayMillis;
+    }
+
+    public void setSaveDelayMillis(long saveDelayMillis) {
+        this.saveDelayMillis = saveDelayMillis;
+    }
+
+    /**
+     * Returns the number of unsaved changes to the address book after which it is saved without further delay.
+     */
+    public int getMaxPendingChanges() {
+        return maxPendingChanges;
+    }
+
+    public void setMaxPendingChanges(int maxPendingChanges) {
+        this.maxPendingChanges = maxPendingChanges;
+    }
+
+    /**
+     * Returns the largest address book that is saved as indented, human-readable json.
+     * Larger address books are saved in compact form, and a negative value means that every address book is.
+     */
+    public int getPrettyPrintMaxPersons() {
+        return prettyPrintMaxPersons;
+    }
+
+    public void setPrettyPrintMaxPersons(int prettyPrintMaxPersons) {
+        this.prettyPrintMaxPersons = prettyPrintMaxPersons;
+    }
+
+    public DurabilityPolicy getDurabilityPolicy() {
+        return durabilityPolicy;
+    }
+
+    public void setDurabilityPolicy(DurabilityPolicy durabilityPolicy) {
+        this.durabilityPolicy = durabilityPolicy;
+    }
+
+    /**
+     * Returns true if a json address book is loaded from its binary cache while the json file is unchanged.
+     */
+    public boolean isWarmStartCacheEnabled() {
+        return warmStartCacheEnabled;
+    }
+
+    public void setWarmStartCacheEnabled(boolean warmStartCacheEnabled) {
+        this.warmStartCacheEnabled = warmStartCacheEnabled;
+    }
+
+    /**
+     * Returns true if changes made to a json data file by other programs are reloaded while the app runs.
+     */
+    public boolean isDataFileWatched() {
+        return dataFileWatched;
+    }
+
+    public void setDataFileWatched(boolean dataFileWatched) {
+        this.dataFileWatched = dataFileWatched;
+    }
+
+    /**
+     * Returns the local port on which the HTTP API is served.
+     * A value of zero or less means that the HTTP API is not served.
+     */
+    public int getHttpApiPort() {
+        return httpApiPort;
+    }
+
+    public void setHttpApiPort(int httpApiPort) {
+        this.httpApiPort = httpApiPort;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +189,23 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && maxPersons == otherConfig.maxPersons
+                && storageFormat == otherConfig.storageFormat
+                && saveDelayMillis == otherConfig.saveDelayMillis
+                && maxPendingChanges == otherConfig.maxPendingChanges
+                && prettyPrintMaxPersons == otherConfig.prettyPrintMaxPersons
+                && durabilityPolicy == otherConfig.durabilityPolicy
+                && warmStartCacheEnabled == otherConfig.warmStartCacheEnabled
+                && dataFileWatched == otherConfig.dataFileWatched
+                && httpApiPort == otherConfig.httpApiPort;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, maxPersons, storageFormat, saveDelayMillis,
+                maxPendingChanges, prettyPrintMaxPersons, durabilityPolicy, warmStartCacheEnabled,
+                dataFileWatched, httpApiPort);
     }
 
     @Override
@@ -60,6 +213,15 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("maxPersons", maxPersons)
+                .add("storageFormat", storageFormat)
+                .add("saveDelayMillis", saveDelayMillis)
+                .add("maxPendingChanges", maxPendingChanges)
+                .add("prettyPrintMaxPersons", prettyPrintMaxPersons)
+                .add("durabilityPolicy", durabilityPolicy)
+                .add("warmStartCacheEnabled", warmStartCacheEnabled)
+                .add("dataFileWatched", dataFileWatched)
+                .add("httpApiPort", httpApiPort)
                 .toString();
     }
 
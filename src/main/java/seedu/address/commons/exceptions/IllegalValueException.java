@@ -1,14 +1,34 @@
 package seedu.address.commons.exceptions;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
 /**
  * Signals that some given data does not fulfill some constraints.
  */
 public class IllegalValueException extends Exception {
+
+    /**
+     * The kind of constraint that the data failed, for telling failures apart without reading their messages.
+     */
+    public enum ErrorCode {
+        /** A required field has no value. */
+        MISSING_FIELD,
+        /** A field has a value that does not fulfill the field's constraints. */
+        INVALID_FIELD,
+        /** Any other constraint. */
+        OTHER
+    }
+
+    private final ErrorCode errorCode;
+    private final String field;
+
     /**
      * @param message should contain relevant information on the failed constraint(s)
      */
     public IllegalValueException(String message) {
-        super(message);
+        this(message, ErrorCode.OTHER, null);
     }
 
     /**
@@ -17,5 +37,30 @@ public class IllegalValueException extends Exception {
      */
     public IllegalValueException(String message, Throwable cause) {
         super(message, cause);
+        this.errorCode = ErrorCode.OTHER;
+        this.field = null;
+    }
+
+    /**
+     * @param message should contain relevant information on the failed constraint(s)
+     * @param errorCode the kind of constraint that failed
+     * @param field the name of the field that failed the constraint, or null if no single field did
+     */
+    public IllegalValueException(String message, ErrorCode errorCode, String field) {
+        super(message);
+        requireNonNull(errorCode);
+        this.errorCode = errorCode;
+        this.field = field;
+    }
+
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    /**
+     * Returns the name of the field that failed the constraint, if a single field did.
+     */
+    public Optional<String> getField() {
+        return Optional.ofNullable(field);
     }
 }
@@ -0,0 +1,105 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the records of a CSV file one at a time, so that a file of any size is never held in memory.
+ *
+ * Fields are separated by commas. A field in double quotes may contain commas, line breaks and doubled double quotes,
+ * which stand for a single double quote. A byte order mark at the start of the file is ignored.
+ */
+public class CsvReader implements Closeable {
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final BufferedReader reader;
+    private int lineNumber;
+    private int recordLineNumber;
+
+    public CsvReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+    }
+
+    /**
+     * Returns the fields of the next record, or null if there are no records left.
+     *
+     * @throws IOException if the file cannot be read, or ends inside a quoted field.
+     */
+    public List<String> readRecord() throws IOException {
+        String line = readLine();
+        if (line == null) {
+            return null;
+        }
+        recordLineNumber = lineNumber;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!isQuoted) {
+                    fields.add(field.toString());
+                    return fields;
+                }
+                line = readLine();
+                if (line == null) {
+                    throw new IOException("Quoted field starting on line " + recordLineNumber + " is not closed");
+                }
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+
+            char c = line.charAt(i++);
+            if (isQuoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.length() == 0) {
+                isQuoted = true;
+            } else {
+                field.append(c);
+            }
+        }
+    }
+
+    /**
+     * Returns the line number, starting from 1, on which the record last returned by {@link #readRecord()} starts.
+     */
+    public int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    private String readLine() throws IOException {
+        String line = reader.readLine();
+        if (line != null) {
+            lineNumber++;
+            if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == BYTE_ORDER_MARK) {
+                line = line.substring(1);
+            }
+        }
+        return line;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
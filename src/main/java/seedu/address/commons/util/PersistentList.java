@@ -0,0 +1,233 @@
+package seedu.address.commons.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list that shares most of its storage with the lists it is derived from.
+ *
+ * The elements are held in chunks of at most {@link #CHUNK_SIZE}. Deriving a list with one element added, replaced or
+ * removed copies only the chunk that changes and the array of chunk references, so it costs about
+ * {@code CHUNK_SIZE + size / CHUNK_SIZE} instead of {@code size}. A list never changes once created, so it can be
+ * handed to other threads without locking.
+ */
+public final class PersistentList<E> extends AbstractList<E> implements RandomAccess {
+
+    public static final int CHUNK_SIZE = 32;
+
+    private static final PersistentList<Object> EMPTY = new PersistentList<>(new Object[0][], new int[0], 0);
+
+    private final Object[][] chunks;
+    // The index of the first element of each chunk
+    private final int[] starts;
+    private final int size;
+
+    private PersistentList(Object[][] chunks, int[] starts, int size) {
+        this.chunks = chunks;
+        this.starts = starts;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of {@code elements}, in their iteration order.
+     */
+    public static <E> PersistentList<E> of(Collection<? extends E> elements) {
+        return PersistentList.<E>empty().plusAll(elements);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        int chunkIndex = findChunk(index);
+        return (E) chunks[chunkIndex][index - starts[chunkIndex]];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a list with {@code element} added at the end.
+     */
+    public PersistentList<E> plus(E element) {
+        int lastIndex = chunks.length - 1;
+        if (lastIndex >= 0 && chunks[lastIndex].length < CHUNK_SIZE) {
+            Object[][] newChunks = chunks.clone();
+            Object[] lastChunk = Arrays.copyOf(chunks[lastIndex], chunks[lastIndex].length + 1);
+            lastChunk[lastChunk.length - 1] = element;
+            newChunks[lastIndex] = lastChunk;
+            return new PersistentList<>(newChunks, starts, size + 1);
+        }
+
+        Object[][] newChunks = Arrays.copyOf(chunks, chunks.length + 1);
+        newChunks[chunks.length] = new Object[] {element};
+        int[] newStarts = Arrays.copyOf(starts, starts.length + 1);
+        newStarts[starts.length] = size;
+        return new PersistentList<>(newChunks, newStarts, size + 1);
+    }
+
+    /**
+     * Returns a list with {@code elements} added at the end, in their iteration order.
+     */
+    public PersistentList<E> plusAll(Collection<? extends E> elements) {
+        Object[] added = elements.toArray();
+        if (added.length == 0) {
+            return this;
+        }
+
+        int lastIndex = chunks.length - 1;
+        int room = lastIndex >= 0 ? CHUNK_SIZE - chunks[lastIndex].length : 0;
+        int fillCount = Math.min(room, added.length);
+        int newChunkCount = (added.length - fillCount + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+        Object[][] newChunks = Arrays.copyOf(chunks, chunks.length + newChunkCount);
+        int[] newStarts = Arrays.copyOf(starts, starts.length + newChunkCount);
+        if (fillCount > 0) {
+            Object[] lastChunk = Arrays.copyOf(chunks[lastIndex], chunks[lastIndex].length + fillCount);
+            System.arraycopy(added, 0, lastChunk, chunks[lastIndex].length, fillCount);
+            newChunks[lastIndex] = lastChunk;
+        }
+        for (int i = 0, from = fillCount; from < added.length; i++, from += CHUNK_SIZE) {
+            newChunks[chunks.length + i] = Arrays.copyOfRange(added, from, Math.min(from + CHUNK_SIZE, added.length));
+            newStarts[starts.length + i] = size + from;
+        }
+        return new PersistentList<>(newChunks, newStarts, size + added.length);
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> with(int index, E element) {
+        Objects.checkIndex(index, size);
+        int chunkIndex = findChunk(index);
+        Object[][] newChunks = chunks.clone();
+        newChunks[chunkIndex] = chunks[chunkIndex].clone();
+        newChunks[chunkIndex][index - starts[chunkIndex]] = element;
+        return new PersistentList<>(newChunks, starts, size);
+    }
+
+    /**
+     * Returns a list without the element at {@code index}.
+     * A chunk left with fewer than a quarter of {@link #CHUNK_SIZE} elements is merged into a neighbour that has
+     * room for them, so that removals do not leave the list spread over many small chunks.
+     */
+    public PersistentList<E> minus(int index) {
+        Objects.checkIndex(index, size);
+        int chunkIndex = findChunk(index);
+        Object[] chunk = chunks[chunkIndex];
+        int offset = index - starts[chunkIndex];
+
+        Object[] shrunk = new Object[chunk.length - 1];
+        System.arraycopy(chunk, 0, shrunk, 0, offset);
+        System.arraycopy(chunk, offset + 1, shrunk, offset, shrunk.length - offset);
+
+        if (shrunk.length == 0) {
+            return fromChunks(remove(chunks, chunkIndex), size - 1);
+        }
+        if (shrunk.length < CHUNK_SIZE / 4) {
+            int neighbourIndex = chunkIndex + 1 < chunks.length ? chunkIndex + 1 : chunkIndex - 1;
+            if (neighbourIndex >= 0 && chunks[neighbourIndex].length + shrunk.length <= CHUNK_SIZE) {
+                int firstIndex = Math.min(chunkIndex, neighbourIndex);
+                Object[] first = firstIndex == chunkIndex ? shrunk : chunks[neighbourIndex];
+                Object[] second = firstIndex == chunkIndex ? chunks[neighbourIndex] : shrunk;
+                Object[] merged = Arrays.copyOf(first, first.length + second.length);
+                System.arraycopy(second, 0, merged, first.length, second.length);
+
+                Object[][] newChunks = remove(chunks, firstIndex + 1);
+                newChunks[firstIndex] = merged;
+                return fromChunks(newChunks, size - 1);
+            }
+        }
+
+        Object[][] newChunks = chunks.clone();
+        newChunks[chunkIndex] = shrunk;
+        int[] newStarts = starts.clone();
+        for (int i = chunkIndex + 1; i < newStarts.length; i++) {
+            newStarts[i]--;
+        }
+        return new PersistentList<>(newChunks, newStarts, size - 1);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        for (int chunkIndex = 0; chunkIndex < chunks.length; chunkIndex++) {
+            Object[] chunk = chunks[chunkIndex];
+            for (int i = 0; i < chunk.length; i++) {
+                if (Objects.equals(o, chunk[i])) {
+                    return starts[chunkIndex] + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int chunkIndex;
+            private int offset;
+
+            @Override
+            public boolean hasNext() {
+                return chunkIndex < chunks.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                E element = (E) chunks[chunkIndex][offset++];
+                if (offset == chunks[chunkIndex].length) {
+                    chunkIndex++;
+                    offset = 0;
+                }
+                return element;
+            }
+        };
+    }
+
+    /**
+     * Returns the index of the chunk holding the element at {@code index}.
+     */
+    private int findChunk(int index) {
+        int chunkIndex = Arrays.binarySearch(starts, index);
+        return chunkIndex >= 0 ? chunkIndex : -chunkIndex - 2;
+    }
+
+    private static Object[][] remove(Object[][] chunks, int chunkIndex) {
+        Object[][] newChunks = new Object[chunks.length - 1][];
+        System.arraycopy(chunks, 0, newChunks, 0, chunkIndex);
+        System.arraycopy(chunks, chunkIndex + 1, newChunks, chunkIndex, newChunks.length - chunkIndex);
+        return newChunks;
+    }
+
+    private static <E> PersistentList<E> fromChunks(Object[][] chunks, int size) {
+        int[] starts = new int[chunks.length];
+        for (int i = 1; i < chunks.length; i++) {
+            starts[i] = starts[i - 1] + chunks[i - 1].length;
+        }
+        return new PersistentList<>(chunks, starts, size);
+    }
+}
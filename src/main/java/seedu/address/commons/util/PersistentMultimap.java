@@ -0,0 +1,194 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * An immutable map from keys to lists of values that shares most of its storage with the maps it is derived from.
+ *
+ * The keys are held in a trie of nodes with {@link #NODE_WIDTH} slots, each level picking a slot by the next bits of
+ * the key's hash. Deriving a map with one value added or removed copies only the nodes on the path to the key and the
+ * chunk of the key's {@link PersistentList} that changes, so it costs about {@code NODE_WIDTH * log(keys)} instead of
+ * the size of the map. A map never changes once created, so it can be handed to other threads without locking.
+ */
+public final class PersistentMultimap<K, V> {
+
+    public static final int NODE_WIDTH = 32;
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int SLOT_MASK = NODE_WIDTH - 1;
+
+    private static final PersistentMultimap<Object, Object> EMPTY = new PersistentMultimap<>(new Object[NODE_WIDTH]);
+
+    // Each slot is null, a nested node (Object[]) or an Entry chain of keys with the same hash
+    private final Object[] root;
+
+    private PersistentMultimap(Object[] root) {
+        this.root = root;
+    }
+
+    /**
+     * A key and its values. Keys whose hashes are equal in every bit are chained through {@code next}.
+     */
+    private static final class Entry {
+        private final Object key;
+        private final int hash;
+        private final PersistentList<?> values;
+        private final Entry next;
+
+        private Entry(Object key, int hash, PersistentList<?> values, Entry next) {
+            this.key = key;
+            this.hash = hash;
+            this.values = values;
+            this.next = next;
+        }
+    }
+
+    /**
+     * Returns the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMultimap<K, V> empty() {
+        return (PersistentMultimap<K, V>) EMPTY;
+    }
+
+    /**
+     * Returns a map holding the values of {@code valuesByKey}, each list in its iteration order.
+     */
+    public static <K, V> PersistentMultimap<K, V> of(Map<K, ? extends Collection<? extends V>> valuesByKey) {
+        requireNonNull(valuesByKey);
+        PersistentMultimap<K, V> map = empty();
+        for (Map.Entry<K, ? extends Collection<? extends V>> entry : valuesByKey.entrySet()) {
+            map = map.withValues(entry.getKey(), values -> values.plusAll(entry.getValue()));
+        }
+        return map;
+    }
+
+    /**
+     * Returns an unmodifiable list of the values under {@code key}, in the order they were added.
+     * The returned list is empty if there are none.
+     */
+    @SuppressWarnings("unchecked")
+    public List<V> get(K key) {
+        requireNonNull(key);
+        int hash = hashOf(key);
+        Object slot = root[hash & SLOT_MASK];
+        for (int shift = BITS_PER_LEVEL; slot instanceof Object[]; shift += BITS_PER_LEVEL) {
+            slot = ((Object[]) slot)[(hash >>> shift) & SLOT_MASK];
+        }
+        for (Entry entry = (Entry) slot; entry != null; entry = entry.next) {
+            if (entry.hash == hash && entry.key.equals(key)) {
+                return (List<V>) entry.values;
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns a map with {@code value} added under {@code key}.
+     */
+    public PersistentMultimap<K, V> plus(K key, V value) {
+        requireNonNull(key);
+        return withValues(key, values -> values.plus(value));
+    }
+
+    /**
+     * Returns a map with the first value equal to {@code value} under {@code key} removed,
+     * or this map if there is no such value.
+     */
+    public PersistentMultimap<K, V> minus(K key, V value) {
+        requireNonNull(key);
+        return withValues(key, values -> {
+            int index = values.indexOf(value);
+            return index < 0 ? values : values.minus(index);
+        });
+    }
+
+    /**
+     * Returns a map with the values under {@code key} replaced by the result of {@code change}, which is given an
+     * empty list if there are none. A key left without values is removed, and an unchanged list returns this map.
+     */
+    private PersistentMultimap<K, V> withValues(K key, UnaryOperator<PersistentList<V>> change) {
+        Object[] newRoot = withValues(root, 0, hashOf(key), key, change);
+        return newRoot == root ? this : new PersistentMultimap<>(newRoot);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Object[] withValues(Object[] node, int shift, int hash, Object key,
+            UnaryOperator<PersistentList<V>> change) {
+        int slotIndex = (hash >>> shift) & SLOT_MASK;
+        Object slot = node[slotIndex];
+        Object newSlot;
+        if (slot instanceof Object[]) {
+            Object[] child = (Object[]) slot;
+            Object[] newChild = withValues(child, shift + BITS_PER_LEVEL, hash, key, change);
+            newSlot = newChild == child ? child : isEmpty(newChild) ? null : newChild;
+        } else if (slot != null && ((Entry) slot).hash != hash) {
+            // Another hash shares the slot, so both move into a nested node where the next bits tell them apart
+            Entry entry = (Entry) slot;
+            int nextShift = shift + BITS_PER_LEVEL;
+            Object[] child = new Object[NODE_WIDTH];
+            child[(entry.hash >>> nextShift) & SLOT_MASK] = entry;
+            Object[] newChild = withValues(child, nextShift, hash, key, change);
+            newSlot = newChild == child ? slot : newChild;
+        } else {
+            newSlot = withValues((Entry) slot, hash, key, change);
+        }
+
+        if (newSlot == slot) {
+            return node;
+        }
+        Object[] newNode = node.clone();
+        newNode[slotIndex] = newSlot;
+        return newNode;
+    }
+
+    /**
+     * Returns the chain starting at {@code chain}, whose keys all have {@code hash}, with the values under
+     * {@code key} changed by {@code change}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <V> Entry withValues(Entry chain, int hash, Object key, UnaryOperator<PersistentList<V>> change) {
+        for (Entry entry = chain; entry != null; entry = entry.next) {
+            if (!entry.key.equals(key)) {
+                continue;
+            }
+            PersistentList<V> values = (PersistentList<V>) entry.values;
+            PersistentList<V> newValues = change.apply(values);
+            if (newValues == values) {
+                return chain;
+            }
+            Entry rest = withoutKey(chain, key);
+            return newValues.isEmpty() ? rest : new Entry(key, hash, newValues, rest);
+        }
+
+        PersistentList<V> newValues = change.apply(PersistentList.empty());
+        return newValues.isEmpty() ? chain : new Entry(key, hash, newValues, chain);
+    }
+
+    private static Entry withoutKey(Entry chain, Object key) {
+        if (chain.key.equals(key)) {
+            return chain.next;
+        }
+        return new Entry(chain.key, chain.hash, chain.values, withoutKey(chain.next, key));
+    }
+
+    private static boolean isEmpty(Object[] node) {
+        for (Object slot : node) {
+            if (slot != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hashOf(Object key) {
+        int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Helper functions for validating field values without compiling a pattern on every call.
+ *
+ * The simple formats are checked by scanners that walk the string once and allocate nothing. Each scanner accepts
+ * exactly the strings its documented regex accepts. Every other format goes through {@link #matches(String, String)},
+ * which compiles each regex only once.
+ */
+public class ValidationUtil {
+
+    private static final Map<String, Pattern> patterns = new ConcurrentHashMap<>();
+
+    /**
+     * Returns true if the whole of {@code input} matches {@code regex}, like {@link String#matches(String)}.
+     * The compiled pattern of {@code regex} is cached, so it is only compiled on the first call.
+     */
+    public static boolean matches(String regex, String input) {
+        requireNonNull(regex);
+        requireNonNull(input);
+        return patterns.computeIfAbsent(regex, Pattern::compile).matcher(input).matches();
+    }
+
+    /**
+     * Returns true if {@code input} is {@code length} ASCII digits, the first of which is one of
+     * {@code firstDigits}. For example, {@code isDigits(input, 8, "689")} is the regex {@code [689][0-9]{7}}.
+     */
+    public static boolean isDigits(String input, int length, String firstDigits) {
+        requireNonNull(input);
+        requireNonNull(firstDigits);
+        if (input.length() != length || length == 0 || firstDigits.indexOf(input.charAt(0)) < 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isAsciiDigit(input.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code input} is one or more ASCII letters, which is the regex {@code [A-Za-z]+}.
+     */
+    public static boolean isLetters(String input) {
+        requireNonNull(input);
+        if (input.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < input.length(); i++) {
+            if (!isAsciiLetter(input.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code input} is words of ASCII letters separated by single spaces, with no leading or
+     * trailing space. This is the regex {@code [A-Za-z]+(?: [A-Za-z]+)*}.
+     */
+    public static boolean isLetterWords(String input) {
+        requireNonNull(input);
+        if (input.isEmpty()) {
+            return false;
+        }
+        boolean isAfterLetter = false;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (isAsciiLetter(c)) {
+                isAfterLetter = true;
+            } else if (c == ' ' && isAfterLetter) {
+                isAfterLetter = false;
+            } else {
+                return false;
+            }
+        }
+        return isAfterLetter;
+    }
+
+    /**
+     * Returns true if {@code input} is a single line that does not start with whitespace, which is the regex
+     * {@code [^\s].*}.
+     */
+    public static boolean isSingleLineNotStartingWithWhitespace(String input) {
+        requireNonNull(input);
+        if (input.isEmpty() || isRegexWhitespace(input.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < input.length(); i++) {
+            if (isLineTerminator(input.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code input} has a character other than whitespace, like {@code !input.trim().isEmpty()}
+     * but without creating the trimmed string.
+     */
+    public static boolean hasNonWhitespace(String input) {
+        requireNonNull(input);
+        for (int i = 0; i < input.length(); i++) {
+            if (input.charAt(i) > ' ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the length {@code input.trim()} would have, without creating the trimmed string.
+     */
+    public static int trimmedLength(String input) {
+        requireNonNull(input);
+        int start = 0;
+        int end = input.length();
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end - start;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    /**
+     * Returns true if {@code c} is matched by the regex {@code \s}, which is ASCII whitespace only.
+     */
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} is not matched by the regex {@code .}, which excludes line terminators.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs commands read from a stream, one per line, through a {@code Logic}.
+ *
+ * The feedback of each command is written to the output stream, and the message of each failed command to the error
+ * stream. Both are flushed after every command, so that a program driving the other end can wait for each reply.
+ */
+public class CommandStreamRunner {
+
+    private final Logic logic;
+
+    public CommandStreamRunner(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+    }
+
+    /**
+     * Runs the commands read from {@code in} until it ends or an {@code exit} command is run.
+     * Blank lines are skipped.
+     *
+     * @return the number of commands that failed.
+     * @throws IOException if {@code in} cannot be read.
+     */
+    public int run(BufferedReader in, PrintWriter out, PrintWriter err) throws IOException {
+        requireAllNonNull(in, out, err);
+
+        int failedCount = 0;
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+
+            try {
+                CommandResult result = logic.execute(line);
+                out.println(result.getFeedbackToUser());
+                out.flush();
+                if (result.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                failedCount++;
+                err.println(e.getMessage());
+                err.flush();
+            }
+        }
+        return failedCount;
+    }
+}
@@ -1,12 +1,14 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 
@@ -23,6 +25,24 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the number of executed commands that left the address book unchanged, and so were not saved.
+     */
+    long getSkippedSaveCount();
+
+    /**
+     * Sets the handler that receives the error message of any save that fails after its command has returned.
+     * The handler may be called from a background thread.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
+    /**
+     * Sets the handler that receives the progress and outcome of commands that run in the background.
+     * Until a handler is set, such commands run to completion before {@link #execute(String)} returns.
+     * The handler is called from a background thread.
+     */
+    void setBackgroundMessageHandler(Consumer<String> backgroundMessageHandler);
+
     /**
      * Returns the AddressBook.
      *
@@ -33,6 +53,12 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of seniors */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns an immutable view of all seniors, as of the end of the last command.
+     * Unlike the other methods, this may be called from any thread.
+     */
+    AddressBookSnapshot getSnapshot();
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -3,19 +3,25 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.BackgroundCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.storage.BackgroundAddressBookSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -32,14 +38,34 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final BackgroundAddressBookSaver backgroundSaver;
+
+    // Runs the slow part of background commands one at a time, created on first use
+    private ExecutorService backgroundExecutor;
+    private Consumer<String> backgroundMessageHandler;
+
+    // Version of the address book as last saved, and the number of commands that needed no save
+    private long savedAddressBookVersion;
+    private long skippedSaveCount;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book is saved before each command returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that hands the address book to {@code backgroundSaver} after each command
+     * instead of saving it before the command returns. A null {@code backgroundSaver} saves before returning.
+     */
+    public LogicManager(Model model, Storage storage, BackgroundAddressBookSaver backgroundSaver) {
         this.model = model;
         this.storage = storage;
+        this.backgroundSaver = backgroundSaver;
         addressBookParser = new AddressBookParser();
+        savedAddressBookVersion = model.getAddressBookVersion();
     }
 
     @Override
@@ -48,19 +74,83 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = executeCommand(command);
+        } finally {
+            // Readers on other threads see the changes of a command all at once, never part of them
+            model.commitSnapshot();
+        }
+
+        long addressBookVersion = model.getAddressBookVersion();
+        if (addressBookVersion == savedAddressBookVersion) {
+            skippedSaveCount++;
+            logger.fine("Address book unchanged, skipping save (" + skippedSaveCount + " saves skipped so far)");
+            return commandResult;
+        }
+
+        if (backgroundSaver != null) {
+            backgroundSaver.requestSave(model.getSnapshot());
+            savedAddressBookVersion = addressBookVersion;
+            return commandResult;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            savedAddressBookVersion = addressBookVersion;
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    /**
+     * Executes {@code command}, running its slow part in the background if it supports that and a handler for its
+     * messages is set.
+     */
+    private CommandResult executeCommand(Command command) throws CommandException {
+        if (command instanceof BackgroundCommand && backgroundMessageHandler != null) {
+            return ((BackgroundCommand) command).executeInBackground(model, getBackgroundExecutor(),
+                    backgroundMessageHandler);
+        }
+        return command.execute(model);
+    }
+
+    private synchronized ExecutorService getBackgroundExecutor() {
+        if (backgroundExecutor == null) {
+            backgroundExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "background-command");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return backgroundExecutor;
+    }
+
+    @Override
+    public void setBackgroundMessageHandler(Consumer<String> backgroundMessageHandler) {
+        this.backgroundMessageHandler = backgroundMessageHandler;
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        if (backgroundSaver != null) {
+            backgroundSaver.setErrorHandler(ioe -> saveErrorHandler.accept(getSaveErrorMessage(ioe)));
+        }
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    @Override
+    public long getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -71,6 +161,11 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public AddressBookSnapshot getSnapshot() {
+        return model.getSnapshot();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -0,0 +1,24 @@
+package seedu.address.logic.commands;
+
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Represents a command whose slow part can be run off the thread that executes commands, such as the JavaFX
+ * application thread, so that the app stays responsive meanwhile.
+ */
+public abstract class BackgroundCommand extends Command {
+
+    /**
+     * Executes the command like {@link #execute(Model)}, but runs its slow part on {@code executor} and returns as
+     * soon as that part is started. The progress and the outcome of the slow part are passed to
+     * {@code messageHandler} as messages for the user, on the thread of {@code executor}.
+     *
+     * @throws CommandException If an error occurs before the slow part is started.
+     */
+    public abstract CommandResult executeInBackground(Model model, Executor executor, Consumer<String> messageHandler)
+            throws CommandException;
+}
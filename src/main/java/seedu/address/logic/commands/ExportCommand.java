@@ -0,0 +1,125 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.storage.PersonExporter;
+import seedu.address.storage.PersonExporter.Format;
+
+/**
+ * Writes the displayed seniors, or all seniors, to a CSV or JSON Lines file.
+ */
+public class ExportCommand extends BackgroundCommand {
+
+    public static final String COMMAND_WORD = "export";
+    public static final String FLAG_ALL = "--all";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Writes the displayed seniors, or all seniors with "
+            + FLAG_ALL + ", to a CSV (" + Format.CSV.getExtension() + ") or JSON Lines ("
+            + Format.JSON_LINES.getExtension() + ") file. The format is chosen by the extension of the file.\n"
+            + "Parameters: FILE [" + FLAG_ALL + "]\n"
+            + "Example: " + COMMAND_WORD + " data/visits.csv";
+
+    public static final String MESSAGE_STARTED = "Exporting %1$d seniors to %2$s...";
+    public static final String MESSAGE_PROGRESS = "Exported %1$d of %2$d seniors to %3$s...";
+    public static final String MESSAGE_SUCCESS = "Exported %1$d seniors to %2$s.";
+    public static final String MESSAGE_FAILURE = "Could not export to %1$s: %2$s";
+
+    private final Path filePath;
+    private final Format format;
+    private final boolean isAllSeniors;
+
+    /**
+     * Creates an ExportCommand to write the displayed seniors, or all seniors if {@code isAllSeniors} is true, to the
+     * file at {@code filePath} in {@code format}.
+     */
+    public ExportCommand(Path filePath, Format format, boolean isAllSeniors) {
+        requireAllNonNull(filePath, format);
+        this.filePath = filePath;
+        this.format = format;
+        this.isAllSeniors = isAllSeniors;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> persons = getSeniorsToExport(model);
+        export(persons, count -> {});
+        return new CommandResult(String.format(MESSAGE_SUCCESS, persons.size(), filePath));
+    }
+
+    @Override
+    public CommandResult executeInBackground(Model model, Executor executor, Consumer<String> messageHandler) {
+        requireAllNonNull(model, executor, messageHandler);
+        List<Person> persons = getSeniorsToExport(model);
+        executor.execute(() -> {
+            try {
+                export(persons, count -> {
+                    if (count < persons.size()) {
+                        messageHandler.accept(String.format(MESSAGE_PROGRESS, count, persons.size(), filePath));
+                    }
+                });
+                messageHandler.accept(String.format(MESSAGE_SUCCESS, persons.size(), filePath));
+            } catch (CommandException e) {
+                messageHandler.accept(e.getMessage());
+            } catch (RuntimeException e) {
+                // Reported like any other failure, as the user would otherwise never learn that the export stopped
+                messageHandler.accept(String.format(MESSAGE_FAILURE, filePath, e));
+            }
+        });
+        return new CommandResult(String.format(MESSAGE_STARTED, persons.size(), filePath));
+    }
+
+    /**
+     * Returns a copy of the seniors to export, which later changes to the model do not affect.
+     */
+    private List<Person> getSeniorsToExport(Model model) {
+        return new ArrayList<>(isAllSeniors ? model.getFullPersonList() : model.getFilteredPersonList());
+    }
+
+    private void export(List<Person> persons, IntConsumer progressListener) throws CommandException {
+        try {
+            PersonExporter.export(persons, filePath, format, progressListener);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, filePath, e.getMessage()), e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath)
+                && format == otherExportCommand.format
+                && isAllSeniors == otherExportCommand.isAllSeniors;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("format", format)
+                .add("isAllSeniors", isAllSeniors)
+                .toString();
+    }
+}
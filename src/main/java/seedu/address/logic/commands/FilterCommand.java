@@ -34,9 +34,11 @@ public class FilterCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        Predicate<Person> predicate = person -> person.getTags().stream()
-                .anyMatch(personTag -> tags.stream()
-                        .anyMatch(filterTag -> filterTag.tagName.equalsIgnoreCase(personTag.tagName)));
+        // Membership is looked up in the model's tag index on every test, so the filtered list stays correct
+        // when seniors are tagged or untagged while the filter is active. The filtered list still tests every
+        // senior once, but each test is a hash lookup rather than a scan of the senior's tags.
+        Predicate<Person> predicate = person -> tags.stream()
+                .anyMatch(filterTag -> model.getPersonsWithTag(filterTag).contains(person));
 
         model.updateFilteredPersonList(predicate);
 
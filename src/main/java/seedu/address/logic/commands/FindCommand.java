@@ -2,6 +2,8 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
@@ -31,7 +33,11 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        // Same matches as the predicate, but answered from the model's name index. The lookup is repeated on
+        // every test so that edits made while the results are shown are still reflected. The filtered list still
+        // tests every senior once, but the index answers the search once and each test is a hash lookup.
+        List<String> keywords = predicate.getKeywords();
+        model.updateFilteredPersonList(person -> model.findPersonsByName(keywords).contains(person));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -0,0 +1,83 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.CsvPersonImporter;
+import seedu.address.storage.CsvPersonImporter.ImportResult;
+
+/**
+ * Adds the seniors in a CSV file to the address book in a single change.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the seniors in a CSV file to the address book. "
+            + "The first row of the file names the columns: name, phone and address are required, while email, "
+            + "remark and tags are optional. Multiple tags are separated by " + CsvPersonImporter.TAG_SEPARATOR
+            + ".\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " data/seniors.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d of %2$d seniors from %3$s in %4$d ms (%5$d rows/s).";
+    public static final String MESSAGE_FAILURE = "Could not import %1$s: %2$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to add the seniors in the CSV file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        ImportResult result;
+        try {
+            result = new CsvPersonImporter().importPersons(filePath, model::hasPerson);
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, filePath, e.getCause().getMessage()));
+        }
+
+        model.addPersons(result.getPersons());
+
+        String feedback = String.format(MESSAGE_SUCCESS, result.getPersons().size(), result.getRowCount(), filePath,
+                result.getElapsedMillis(), result.getRowsPerSecond());
+        if (result.getRejectedCount() > 0) {
+            feedback += "\n" + result.getRejectionReport();
+        }
+        return new CommandResult(feedback, false, false, true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -0,0 +1,136 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a script file as a single change to the address book.
+ *
+ * The commands act on the model directly, so the address book is saved once after the whole script instead of once
+ * per command. If any command fails, the address book is restored to how it was before the script.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a script file, one per line, "
+            + "and saves the address book once at the end. Blank lines and lines starting with " + COMMENT_PREFIX
+            + " are skipped. If any command fails, none of the changes made by the script are kept.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " data/nightly.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s in %3$d ms (%4$d ops/s).";
+    public static final String MESSAGE_COMMAND_TIMING = "Line %1$d: %2$s (%3$d us)";
+    public static final String MESSAGE_READ_FAILURE = "Could not read script %1$s: %2$s";
+    public static final String MESSAGE_COMMAND_FAILURE =
+            "Line %1$d of %2$s failed, so none of the changes made by the script were kept.\n%3$s\n%4$s";
+    public static final String MESSAGE_NESTED_SCRIPT = "A script cannot run another script.";
+
+    private final Path filePath;
+
+    /**
+     * Creates a RunCommand to run the script at {@code filePath}.
+     */
+    public RunCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        AddressBookParser parser = new AddressBookParser();
+        AddressBook originalAddressBook = new AddressBook(model.getAddressBook());
+        StringBuilder timings = new StringBuilder();
+        int commandCount = 0;
+        int lineNumber = 0;
+        boolean isDone = false;
+        long startNanos = System.nanoTime();
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                long commandStartNanos = System.nanoTime();
+                Command command = parser.parseCommand(commandText);
+                if (command instanceof RunCommand) {
+                    throw new CommandException(MESSAGE_NESTED_SCRIPT);
+                }
+                command.execute(model);
+                long commandMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - commandStartNanos);
+
+                commandCount++;
+                timings.append('\n').append(String.format(MESSAGE_COMMAND_TIMING, lineNumber, commandText,
+                        commandMicros));
+            }
+            isDone = true;
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILURE, filePath, e.getMessage()), e);
+        } catch (ParseException | CommandException e) {
+            throw new CommandException(String.format(MESSAGE_COMMAND_FAILURE, lineNumber, filePath,
+                    getLine(filePath, lineNumber), e.getMessage()), e);
+        } finally {
+            if (!isDone) {
+                model.setAddressBook(originalAddressBook);
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long opsPerSecond = elapsedNanos == 0 ? 0 : commandCount * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandCount, filePath,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), opsPerSecond) + timings);
+    }
+
+    /**
+     * Returns line {@code lineNumber} of the file at {@code filePath}, trimmed, for an error message.
+     */
+    private static String getLine(Path filePath, int lineNumber) {
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            return reader.lines().skip(lineNumber - 1).findFirst().orElse("").trim();
+        } catch (IOException | RuntimeException e) {
+            return "";
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return filePath.equals(otherRunCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
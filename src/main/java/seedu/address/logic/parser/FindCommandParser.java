@@ -6,6 +6,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import seedu.address.commons.util.ValidationUtil;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
@@ -40,7 +41,7 @@ public class FindCommandParser implements Parser<FindCommand> {
 
         // NEW VALIDATION: Check if all keywords contain only letters
         for (String keyword : nameKeywords) {
-            if (!keyword.matches("[a-zA-Z]+")) {
+            if (!ValidationUtil.isLetters(keyword)) {
                 throw new ParseException(
                         String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                                 "Find command only accepts alphabetical characters. "
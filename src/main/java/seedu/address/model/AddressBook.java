@@ -2,13 +2,21 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.NameIndex;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagIndex;
 
 /**
  * Wraps all data at the address-book level
@@ -16,7 +24,19 @@ import seedu.address.model.person.UniquePersonList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    private static final int MAX_PENDING_SNAPSHOT_CHANGES = 16;
+
     private final UniquePersonList persons;
+    // Updated before the person list changes, as filters shown on the list look them up to test the changed persons
+    private final TagIndex tagIndex;
+    private final NameIndex nameIndex;
+
+    // Incremented on every change to the person list
+    private long version;
+    // The snapshot last taken, and the changes made since, which are applied to it when the next one is taken
+    private AddressBookSnapshot snapshot = AddressBookSnapshot.EMPTY;
+    private final List<UnaryOperator<AddressBookSnapshot>> pendingChanges = new ArrayList<>();
+    private boolean isSnapshotRebuildNeeded;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -27,6 +47,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        tagIndex = new TagIndex();
+        nameIndex = new NameIndex();
     }
 
     public AddressBook() {}
@@ -46,7 +68,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
-        this.persons.setPersons(persons);
+        this.persons.setPersons(persons, () -> {
+            tagIndex.reset(persons);
+            nameIndex.reset(persons);
+        });
+        requireSnapshotRebuild();
+        version++;
     }
 
     /**
@@ -55,9 +82,58 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData == this) {
+            return;
+        }
+        if (newData instanceof AddressBook) {
+            // Already known to be unique, so the identity index can be copied instead of rebuilt
+            UniquePersonList newPersons = ((AddressBook) newData).persons;
+            tagIndex.reset(newPersons);
+            nameIndex.reset(newPersons);
+            persons.setPersons(newPersons);
+            snapshot = ((AddressBook) newData).getSnapshot();
+            pendingChanges.clear();
+            isSnapshotRebuildNeeded = false;
+            version++;
+            return;
+        }
         setPersons(newData.getPersonList());
     }
 
+    /**
+     * Changes the person list to hold the persons of {@code newData}, one person at a time, so that observers of the
+     * list and the indexes only see the persons that differ. Persons are matched by identity: a matched person that
+     * differs in any field, remark included, is replaced in place, an unmatched existing person is removed, and an
+     * unmatched new person is added at the end of the list.
+     *
+     * @return the number of persons that were replaced, removed or added.
+     */
+    public int syncWith(ReadOnlyAddressBook newData) {
+        requireNonNull(newData);
+
+        Map<String, Person> newPersonsByKey = new LinkedHashMap<>();
+        for (Person person : newData.getPersonList()) {
+            newPersonsByKey.put(person.getIdentityKey(), person);
+        }
+
+        int changeCount = 0;
+        for (Person existing : new ArrayList<>(persons.asUnmodifiableObservableList())) {
+            Person updated = newPersonsByKey.remove(existing.getIdentityKey());
+            if (updated == null) {
+                removePerson(existing);
+                changeCount++;
+            } else if (!updated.hasSameData(existing)) {
+                setPerson(existing, updated);
+                changeCount++;
+            }
+        }
+        for (Person added : newPersonsByKey.values()) {
+            addPerson(added);
+            changeCount++;
+        }
+        return changeCount;
+    }
+
     //// person-level operations
 
     /**
@@ -73,7 +149,25 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
-        persons.add(p);
+        persons.add(p, () -> {
+            tagIndex.add(p);
+            nameIndex.add(p);
+        });
+        recordSnapshotChange(previous -> previous.withAdded(p));
+        version++;
+    }
+
+    /**
+     * Adds {@code persons} to the end of the address book as a single change.
+     * None of the persons may already exist in the address book, and {@code persons} must not contain duplicates.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons, () -> {
+            persons.forEach(tagIndex::add);
+            persons.forEach(nameIndex::add);
+        });
+        recordSnapshotChange(previous -> previous.withAddedAll(persons));
+        version++;
     }
 
     /**
@@ -84,7 +178,14 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        int index = persons.setPerson(target, editedPerson, () -> {
+            tagIndex.remove(target);
+            tagIndex.add(editedPerson);
+            nameIndex.remove(target);
+            nameIndex.add(editedPerson);
+        });
+        recordSnapshotChange(previous -> previous.withReplaced(index, target, editedPerson));
+        version++;
     }
 
     /**
@@ -92,11 +193,82 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        int index = persons.remove(key, () -> {
+            tagIndex.remove(key);
+            nameIndex.remove(key);
+        });
+        recordSnapshotChange(previous -> previous.withRemoved(index, key));
+        version++;
     }
 
     public void sortPersons(Comparator<Person> comp) {
         persons.sort(comp);
+        if (!isSnapshotRebuildNeeded) {
+            // Sorting keeps the same persons, so only the order of the snapshot changes and its indexes are kept
+            List<Person> sortedPersons = new ArrayList<>(getPersonList());
+            recordSnapshotChange(previous -> previous.withOrder(sortedPersons));
+        }
+        version++;
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons tagged with {@code tag}, ignoring case.
+     * Looks up the tag index instead of scanning the person list.
+     */
+    public Set<Person> getPersonsWithTag(Tag tag) {
+        return tagIndex.getPersonsWithTag(tag);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons whose name contains any of {@code keywords}, ignoring case.
+     * Candidates are looked up in the name index and only those are checked against the keywords.
+     */
+    public Set<Person> findPersonsByName(List<String> keywords) {
+        return nameIndex.findPersonsContainingAny(keywords);
+    }
+
+    /**
+     * Returns a number that changes whenever the persons in this address book change.
+     * Two calls returning the same number mean that nothing was changed in between.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns an immutable view of the persons as they are now, which later changes to this address book leave as it
+     * is. The view is derived from the one taken before, sharing the storage of everything changed in between.
+     */
+    public AddressBookSnapshot getSnapshot() {
+        if (isSnapshotRebuildNeeded) {
+            snapshot = AddressBookSnapshot.of(getPersonList());
+        } else {
+            for (UnaryOperator<AddressBookSnapshot> change : pendingChanges) {
+                snapshot = change.apply(snapshot);
+            }
+        }
+        pendingChanges.clear();
+        isSnapshotRebuildNeeded = false;
+        return snapshot;
+    }
+
+    /**
+     * Records a change to apply to the snapshot when the next one is taken. After many changes, building the next
+     * snapshot from scratch is cheaper than applying them one by one, so a rebuild is required instead.
+     */
+    private void recordSnapshotChange(UnaryOperator<AddressBookSnapshot> change) {
+        if (isSnapshotRebuildNeeded) {
+            return;
+        }
+        pendingChanges.add(change);
+        if (pendingChanges.size() > MAX_PENDING_SNAPSHOT_CHANGES) {
+            requireSnapshotRebuild();
+        }
+    }
+
+    private void requireSnapshotRebuild() {
+        pendingChanges.clear();
+        isSnapshotRebuildNeeded = true;
     }
 
     //// util methods
@@ -0,0 +1,150 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.PersistentMultimap;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An immutable, point-in-time view of the persons in an address book, with indexes of them by tag and by phone.
+ *
+ * A new snapshot is derived from the previous one by applying the changes made to the address book since, sharing the
+ * storage of everything they did not touch. Once taken, a snapshot never changes, so readers on other threads can use
+ * it without locking while the address book keeps changing.
+ */
+public final class AddressBookSnapshot {
+
+    public static final AddressBookSnapshot EMPTY = new AddressBookSnapshot(PersistentList.empty(),
+            PersistentMultimap.empty(), PersistentMultimap.empty());
+
+    private final PersistentList<Person> persons;
+    private final PersistentMultimap<String, Person> personsByTag;
+    private final PersistentMultimap<String, Person> personsByPhone;
+
+    private AddressBookSnapshot(PersistentList<Person> persons, PersistentMultimap<String, Person> personsByTag,
+            PersistentMultimap<String, Person> personsByPhone) {
+        this.persons = persons;
+        this.personsByTag = personsByTag;
+        this.personsByPhone = personsByPhone;
+    }
+
+    /**
+     * Returns a snapshot of {@code persons}, in their order.
+     */
+    public static AddressBookSnapshot of(List<Person> persons) {
+        requireNonNull(persons);
+        Map<String, List<Person>> personsByTag = new HashMap<>();
+        Map<String, List<Person>> personsByPhone = new HashMap<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                personsByTag.computeIfAbsent(tag.tagName, unused -> new ArrayList<>()).add(person);
+            }
+            personsByPhone.computeIfAbsent(person.getPhone().value, unused -> new ArrayList<>()).add(person);
+        }
+        return new AddressBookSnapshot(PersistentList.of(persons), PersistentMultimap.of(personsByTag),
+                PersistentMultimap.of(personsByPhone));
+    }
+
+    /**
+     * Returns a snapshot with {@code person} added at the end.
+     */
+    public AddressBookSnapshot withAdded(Person person) {
+        requireNonNull(person);
+        return new AddressBookSnapshot(persons.plus(person), indexByTag(personsByTag, person),
+                personsByPhone.plus(person.getPhone().value, person));
+    }
+
+    /**
+     * Returns a snapshot with {@code addedPersons} added at the end, in their order.
+     */
+    public AddressBookSnapshot withAddedAll(List<Person> addedPersons) {
+        requireNonNull(addedPersons);
+        PersistentMultimap<String, Person> newPersonsByTag = personsByTag;
+        PersistentMultimap<String, Person> newPersonsByPhone = personsByPhone;
+        for (Person person : addedPersons) {
+            newPersonsByTag = indexByTag(newPersonsByTag, person);
+            newPersonsByPhone = newPersonsByPhone.plus(person.getPhone().value, person);
+        }
+        return new AddressBookSnapshot(persons.plusAll(addedPersons), newPersonsByTag, newPersonsByPhone);
+    }
+
+    /**
+     * Returns a snapshot with {@code target}, which must be at {@code index}, replaced by {@code editedPerson}.
+     * The index is passed in by the address book, which already knows it, so that no search is needed.
+     */
+    public AddressBookSnapshot withReplaced(int index, Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        assert persons.get(index).equals(target) : "The person to replace must be at the given index";
+        return new AddressBookSnapshot(persons.with(index, editedPerson),
+                indexByTag(unindexByTag(personsByTag, target), editedPerson),
+                personsByPhone.minus(target.getPhone().value, target).plus(editedPerson.getPhone().value,
+                        editedPerson));
+    }
+
+    /**
+     * Returns a snapshot without {@code target}, which must be at {@code index}.
+     */
+    public AddressBookSnapshot withRemoved(int index, Person target) {
+        requireNonNull(target);
+        assert persons.get(index).equals(target) : "The person to remove must be at the given index";
+        return new AddressBookSnapshot(persons.minus(index), unindexByTag(personsByTag, target),
+                personsByPhone.minus(target.getPhone().value, target));
+    }
+
+    /**
+     * Returns a snapshot of the same persons in the order of {@code reorderedPersons}, which must hold exactly the
+     * persons of this snapshot. The indexes are kept as they are.
+     */
+    public AddressBookSnapshot withOrder(List<Person> reorderedPersons) {
+        requireNonNull(reorderedPersons);
+        assert reorderedPersons.size() == persons.size() : "Reordering must keep the same persons";
+        return new AddressBookSnapshot(PersistentList.of(reorderedPersons), personsByTag, personsByPhone);
+    }
+
+    /**
+     * Returns an unmodifiable list of all persons, in the order of the address book.
+     */
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns an unmodifiable list of the persons tagged with {@code tag}, in the order they were tagged.
+     */
+    public List<Person> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return personsByTag.get(tag.tagName);
+    }
+
+    /**
+     * Returns an unmodifiable list of the persons with the phone number {@code phone}, in the order they were added.
+     */
+    public List<Person> getPersonsWithPhone(String phone) {
+        requireNonNull(phone);
+        return personsByPhone.get(phone);
+    }
+
+    private static PersistentMultimap<String, Person> indexByTag(PersistentMultimap<String, Person> personsByTag,
+            Person person) {
+        for (Tag tag : person.getTags()) {
+            personsByTag = personsByTag.plus(tag.tagName, person);
+        }
+        return personsByTag;
+    }
+
+    private static PersistentMultimap<String, Person> unindexByTag(PersistentMultimap<String, Person> personsByTag,
+            Person person) {
+        for (Tag tag : person.getTags()) {
+            personsByTag = personsByTag.minus(tag.tagName, person);
+        }
+        return personsByTag;
+    }
+}
@@ -2,11 +2,13 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -50,12 +52,35 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Changes the address book to hold the persons in {@code addressBook}, touching only the persons that differ.
+     *
+     * @return the number of persons that were replaced, removed or added.
+     */
+    int syncAddressBook(ReadOnlyAddressBook addressBook);
+
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the version of the address book, which changes whenever its persons change.
+     */
+    long getAddressBookVersion();
+
     /** Returns the full list of persons in the address book */
     List<Person> getFullPersonList();
 
+    /**
+     * Returns an immutable view of the address book as of the last {@link #commitSnapshot()}.
+     * Unlike the other methods, this may be called from any thread.
+     */
+    AddressBookSnapshot getSnapshot();
+
+    /**
+     * Makes the changes to the address book since the last commit visible through {@link #getSnapshot()}.
+     */
+    void commitSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -73,6 +98,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of {@code persons} at once, so that observers of the address book see a single change.
+     * None of {@code persons} may already exist in the address book, and {@code persons} must not contain duplicates.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -80,6 +111,17 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns an unmodifiable view of the persons in the address book tagged with {@code tag}, ignoring case.
+     */
+    Set<Person> getPersonsWithTag(Tag tag);
+
+    /**
+     * Returns an unmodifiable view of the persons in the address book whose name contains any of {@code keywords},
+     * ignoring case.
+     */
+    Set<Person> findPersonsByName(List<String> keywords);
+
     /**
      * Sorts elderly by name
      */
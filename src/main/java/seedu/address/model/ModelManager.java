@@ -6,6 +6,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -14,6 +15,7 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -32,6 +34,8 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    // Replaced on every commit, so that other threads only ever see the address book between commands
+    private volatile AddressBookSnapshot committedSnapshot;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -44,6 +48,7 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        commitSnapshot();
     }
 
     public ModelManager() {
@@ -98,16 +103,36 @@ public class ModelManager implements Model {
         this.addressBook.resetData(addressBook);
     }
 
+    @Override
+    public int syncAddressBook(ReadOnlyAddressBook addressBook) {
+        return this.addressBook.syncWith(addressBook);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public List<Person> getFullPersonList() {
         return addressBook.getPersonList();
     }
 
+    @Override
+    public AddressBookSnapshot getSnapshot() {
+        return committedSnapshot;
+    }
+
+    @Override
+    public void commitSnapshot() {
+        committedSnapshot = addressBook.getSnapshot();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -125,6 +150,13 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -132,6 +164,18 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public Set<Person> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return addressBook.getPersonsWithTag(tag);
+    }
+
+    @Override
+    public Set<Person> findPersonsByName(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.findPersonsByName(keywords);
+    }
+
     //method to sort elderly by name
     @Override
     public void sortPersonsByName(boolean ascending) {
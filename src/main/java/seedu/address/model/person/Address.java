@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -37,7 +39,7 @@ public class Address {
      */
     public static boolean isValidAddress(String test) {
         requireNonNull(test);
-        return test.matches(VALIDATION_REGEX) && test.length() <= MAX_LENGTH;
+        return test.length() <= MAX_LENGTH && ValidationUtil.isSingleLineNotStartingWithWhitespace(test);
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -35,9 +37,7 @@ public class Name {
      */
     public static boolean isValidName(String test) {
         requireNonNull(test); // ensure NPE for null input
-        return !test.isBlank()
-                && test.length() <= MAX_LENGTH
-                && test.matches(VALIDATION_REGEX);
+        return test.length() <= MAX_LENGTH && ValidationUtil.isLetterWords(test);
     }
 
     @Override
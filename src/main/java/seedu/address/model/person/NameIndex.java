@@ -0,0 +1,166 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An n-gram index over the lower-cased names of persons, used to answer partial name searches
+ * without testing every person.
+ * Every substring of a name of up to {@link #GRAM_LENGTH} characters is indexed. A keyword of at least
+ * {@link #GRAM_LENGTH} characters can only occur in a name that contains all of the keyword's trigrams, so only the
+ * persons in the intersection of those trigram postings are verified. A shorter keyword is itself an indexed gram,
+ * so its postings are exactly the persons whose name contains it.
+ *
+ * The index does not observe any list by itself; callers keep it in sync with every person they add or remove.
+ */
+public class NameIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Person>> personsByGram = new HashMap<>();
+
+    // Result of the most recent search, dropped on every change to the index
+    private List<String> cachedKeywords;
+    private Set<Person> cachedMatches;
+
+    /**
+     * Indexes the name of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String gram : toIndexedGrams(normalize(person.getName().fullName))) {
+            personsByGram.computeIfAbsent(gram, unused -> new HashSet<>()).add(person);
+        }
+        clearCache();
+    }
+
+    /**
+     * Removes the name of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String gram : toIndexedGrams(normalize(person.getName().fullName))) {
+            Set<Person> postings = personsByGram.get(gram);
+            if (postings == null) {
+                continue;
+            }
+            postings.remove(person);
+            if (postings.isEmpty()) {
+                personsByGram.remove(gram);
+            }
+        }
+        clearCache();
+    }
+
+    /**
+     * Replaces the contents of this index with the names of {@code persons}.
+     */
+    public void reset(Iterable<Person> persons) {
+        requireNonNull(persons);
+        personsByGram.clear();
+        persons.forEach(this::add);
+        clearCache();
+    }
+
+    /**
+     * Returns an unmodifiable set of the persons whose name contains any of {@code keywords}, ignoring case.
+     * The result of the latest search is reused until the index changes, so repeated queries for the same
+     * keywords are answered in constant time.
+     */
+    public Set<Person> findPersonsContainingAny(List<String> keywords) {
+        requireNonNull(keywords);
+        if (keywords.equals(cachedKeywords)) {
+            return cachedMatches;
+        }
+
+        Set<Person> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            String preppedKeyword = normalize(keyword.trim());
+            if (!preppedKeyword.isEmpty()) {
+                matches.addAll(findPersonsContaining(preppedKeyword));
+            }
+        }
+
+        cachedKeywords = new ArrayList<>(keywords);
+        cachedMatches = Collections.unmodifiableSet(matches);
+        return cachedMatches;
+    }
+
+    /**
+     * Returns the persons whose normalized name contains the normalized {@code keyword}.
+     */
+    private List<Person> findPersonsContaining(String keyword) {
+        List<Person> matches = new ArrayList<>();
+        for (Person candidate : findCandidates(keyword)) {
+            if (normalize(candidate.getName().fullName).contains(keyword)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the persons whose name contains every trigram of {@code keyword}, or {@code keyword} itself if it is
+     * shorter than a trigram.
+     */
+    private Set<Person> findCandidates(String keyword) {
+        if (keyword.length() < GRAM_LENGTH) {
+            return personsByGram.getOrDefault(keyword, Collections.emptySet());
+        }
+
+        List<Set<Person>> postingsList = new ArrayList<>();
+        for (String gram : toGrams(keyword)) {
+            Set<Person> postings = personsByGram.get(gram);
+            if (postings == null) {
+                return Collections.emptySet();
+            }
+            postingsList.add(postings);
+        }
+
+        // Intersect starting from the rarest trigram so that the working set is as small as possible
+        postingsList.sort(Comparator.comparingInt(Set::size));
+        Set<Person> candidates = new HashSet<>(postingsList.get(0));
+        for (int i = 1; i < postingsList.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postingsList.get(i));
+        }
+        return candidates;
+    }
+
+    private void clearCache() {
+        cachedKeywords = null;
+        cachedMatches = null;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase();
+    }
+
+    /**
+     * Returns every substring of {@code text} of at most {@link #GRAM_LENGTH} characters.
+     */
+    private static Set<String> toIndexedGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int length = 1; length <= GRAM_LENGTH; length++) {
+            for (int i = 0; i + length <= text.length(); i++) {
+                grams.add(text.substring(i, i + length));
+            }
+        }
+        return grams;
+    }
+
+    private static Set<String> toGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
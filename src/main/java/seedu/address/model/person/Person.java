@@ -27,6 +27,9 @@ public class Person {
     private final Remark remark;
     private final Set<Tag> tags = new HashSet<>();
 
+    // Derived identity, see isSamePerson
+    private final String identityKey;
+
     /**
      * Every field must be present and not null.
      */
@@ -39,6 +42,7 @@ public class Person {
         this.address = address;
         this.remark = remark;
         this.tags.addAll(tags);
+        this.identityKey = name.fullName.toUpperCase() + "|" + phone.value;
     }
 
     public Name getName() {
@@ -69,6 +73,14 @@ public class Person {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns the key that identifies this person, made up of the case-insensitive name and the phone number.
+     * Two persons have the same identity key if and only if {@link #isSamePerson(Person)} holds for them.
+     */
+    public String getIdentityKey() {
+        return identityKey;
+    }
+
     /**
      * Returns true if both persons have the same name and phone number
      */
@@ -78,9 +90,7 @@ public class Person {
         }
 
         return otherPerson != null
-                && otherPerson.getName().fullName.toUpperCase()
-                .equals(getName().fullName.toUpperCase())
-                && otherPerson.getPhone().equals(getPhone());
+                && otherPerson.identityKey.equals(identityKey);
     }
 
     /**
@@ -106,6 +116,14 @@ public class Person {
                 && tags.equals(otherPerson.tags);
     }
 
+    /**
+     * Returns true if both persons have the same value in every field, including the remark that
+     * {@link #equals(Object)} leaves out. Use this to tell whether anything saved about a person has changed.
+     */
+    public boolean hasSameData(Person otherPerson) {
+        return equals(otherPerson) && Objects.equals(remark, otherPerson.remark);
+    }
+
     /**
      * Returns a new Person with the given tag added.
      * Does not modify the existing Person.
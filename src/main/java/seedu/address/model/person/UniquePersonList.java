@@ -3,9 +3,14 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +24,13 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * The identity keys of all persons in the list are additionally kept in a hash set so that identity checks take
+ * constant time regardless of the size of the list.
+ *
+ * Each change can be given a {@code beforeChange} action, which runs once the change is known to be valid and just
+ * before the list changes. Listeners of the list, such as a {@code FilteredList}, test the changed persons as soon as
+ * the list changes, so any state their predicates look up must be updated by then.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -28,13 +40,14 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<String> identityKeys = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityKeys.contains(toCheck.getIdentityKey());
     }
 
     /**
@@ -42,20 +55,68 @@ public class UniquePersonList implements Iterable<Person> {
      * The person must not already exist in the list.
      */
     public void add(Person toAdd) {
-        requireNonNull(toAdd);
+        add(toAdd, () -> {});
+    }
+
+    /**
+     * Adds a person to the list, running {@code beforeChange} just before it is added.
+     * The person must not already exist in the list.
+     */
+    public void add(Person toAdd, Runnable beforeChange) {
+        requireAllNonNull(toAdd, beforeChange);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        beforeChange.run();
         internalList.add(toAdd);
+        identityKeys.add(toAdd.getIdentityKey());
+    }
+
+    /**
+     * Adds {@code persons} to the end of the list in a single change, in their order.
+     * None of the persons may already exist in the list, and {@code persons} must not contain duplicate persons.
+     */
+    public void addAll(List<Person> persons) {
+        addAll(persons, () -> {});
+    }
+
+    /**
+     * Adds {@code persons} to the end of the list in a single change, running {@code beforeChange} just before.
+     * None of the persons may already exist in the list, and {@code persons} must not contain duplicate persons.
+     */
+    public void addAll(List<Person> persons, Runnable beforeChange) {
+        requireAllNonNull(persons);
+        requireNonNull(beforeChange);
+        Set<String> newIdentityKeys = indexUniquePersons(persons);
+        for (Person person : persons) {
+            if (contains(person)) {
+                throw new DuplicatePersonException();
+            }
+        }
+        beforeChange.run();
+        internalList.addAll(persons);
+        identityKeys.addAll(newIdentityKeys);
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     *
+     * @return the index of {@code editedPerson} in the list.
+     */
+    public int setPerson(Person target, Person editedPerson) {
+        return setPerson(target, editedPerson, () -> {});
+    }
+
+    /**
+     * Replaces the person {@code target} in the list with {@code editedPerson}, running {@code beforeChange} just
+     * before it is replaced. The same constraints as {@link #setPerson(Person, Person)} apply.
+     *
+     * @return the index of {@code editedPerson} in the list.
      */
-    public void setPerson(Person target, Person editedPerson) {
-        requireAllNonNull(target, editedPerson);
+    public int setPerson(Person target, Person editedPerson, Runnable beforeChange) {
+        requireAllNonNull(target, editedPerson, beforeChange);
 
         int index = internalList.indexOf(target);
         if (index == -1) {
@@ -66,36 +127,73 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        beforeChange.run();
         internalList.set(index, editedPerson);
+        identityKeys.remove(target.getIdentityKey());
+        identityKeys.add(editedPerson.getIdentityKey());
+        return index;
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
+     *
+     * @return the index the person was at.
+     */
+    public int remove(Person toRemove) {
+        return remove(toRemove, () -> {});
+    }
+
+    /**
+     * Removes the equivalent person from the list, running {@code beforeChange} just before it is removed.
+     * The person must exist in the list.
+     *
+     * @return the index the person was at.
      */
-    public void remove(Person toRemove) {
-        requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+    public int remove(Person toRemove, Runnable beforeChange) {
+        requireAllNonNull(toRemove, beforeChange);
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        beforeChange.run();
+        internalList.remove(index);
+        identityKeys.remove(toRemove.getIdentityKey());
+        return index;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identityKeys.clear();
+        identityKeys.addAll(replacement.identityKeys);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     *
+     * @throws DuplicatePersonException listing every duplicate pair if {@code persons} is not unique.
      */
     public void setPersons(List<Person> persons) {
+        setPersons(persons, () -> {});
+    }
+
+    /**
+     * Replaces the contents of this list with {@code persons}, running {@code beforeChange} just before.
+     * {@code persons} must not contain duplicate persons.
+     *
+     * @throws DuplicatePersonException listing every duplicate pair if {@code persons} is not unique.
+     */
+    public void setPersons(List<Person> persons, Runnable beforeChange) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        requireNonNull(beforeChange);
+        Set<String> newIdentityKeys = indexUniquePersons(persons);
 
+        beforeChange.run();
         internalList.setAll(persons);
+        identityKeys.clear();
+        identityKeys.addAll(newIdentityKeys);
     }
 
     /**
@@ -144,16 +242,28 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the identity keys of {@code persons} in a single pass.
+     *
+     * @throws DuplicatePersonException listing every duplicate pair if {@code persons} contains duplicate persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Set<String> indexUniquePersons(List<Person> persons) {
+        Map<String, Integer> firstPositions = new HashMap<>(persons.size() * 2);
+        List<Person> duplicates = new ArrayList<>();
+        List<String> details = new ArrayList<>();
+
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            Integer firstPosition = firstPositions.putIfAbsent(person.getIdentityKey(), i);
+            if (firstPosition != null) {
+                duplicates.add(person);
+                details.add(person.getName() + " (" + person.getPhone() + ") at positions "
+                        + (firstPosition + 1) + " and " + (i + 1));
             }
         }
-        return true;
+
+        if (!duplicates.isEmpty()) {
+            throw new DuplicatePersonException(duplicates, details);
+        }
+        return firstPositions.keySet();
     }
 }
@@ -1,11 +1,37 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    private final List<Person> duplicates;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Creates an exception describing every duplicate found during a bulk operation.
+     *
+     * @param duplicates the persons whose identity is already held by an earlier person, in the order found.
+     * @param details a description of each duplicate pair.
+     */
+    public DuplicatePersonException(List<Person> duplicates, List<String> details) {
+        super("Operation would result in duplicate persons: " + String.join("; ", details));
+        this.duplicates = Collections.unmodifiableList(duplicates);
+    }
+
+    /**
+     * Returns the persons that duplicate an earlier person, or an empty list if they were not recorded.
+     */
+    public List<Person> getDuplicates() {
+        return duplicates;
     }
 }
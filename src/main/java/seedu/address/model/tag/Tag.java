@@ -2,6 +2,8 @@ package seedu.address.model.tag;
 
 import static java.util.Objects.requireNonNull;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable
@@ -30,13 +32,7 @@ public class Tag {
      * @return
      */
     public static boolean isValidTagContent(String tagName) {
-        requireNonNull(tagName);
-        String trimmed = tagName.trim();
-        if (trimmed.isEmpty()) {
-            return false;
-        } else {
-            return true;
-        }
+        return ValidationUtil.hasNonWhitespace(tagName);
     }
 
     /**
@@ -45,13 +41,7 @@ public class Tag {
      * @return
      */
     public static boolean isValidTagLength(String tagName) {
-        requireNonNull(tagName);
-        String trimmed = tagName.trim();
-        if (trimmed.length() > 30) {
-            return false;
-        } else {
-            return true;
-        }
+        return ValidationUtil.trimmedLength(tagName) <= 30;
     }
 
     @Override
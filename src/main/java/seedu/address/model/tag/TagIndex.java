@@ -0,0 +1,72 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An inverted index from tag names to the persons carrying them.
+ * Tag names are compared case-insensitively.
+ * The index does not observe any list by itself; callers keep it in sync with every person they add or remove.
+ */
+public class TagIndex {
+
+    private final Map<String, Set<Person>> personsByTag = new HashMap<>();
+
+    /**
+     * Indexes {@code person} under each of its tags.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            personsByTag.computeIfAbsent(toKey(tag), unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from each of its tags.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            String key = toKey(tag);
+            Set<Person> taggedPersons = personsByTag.get(key);
+            if (taggedPersons == null) {
+                continue;
+            }
+            taggedPersons.remove(person);
+            if (taggedPersons.isEmpty()) {
+                personsByTag.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with the tags of {@code persons}.
+     */
+    public void reset(Iterable<Person> persons) {
+        requireNonNull(persons);
+        personsByTag.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons carrying {@code tag}.
+     * The returned set is empty if no person carries {@code tag}.
+     */
+    public Set<Person> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        Set<Person> taggedPersons = personsByTag.get(toKey(tag));
+        return taggedPersons == null ? Collections.emptySet() : Collections.unmodifiableSet(taggedPersons);
+    }
+
+    private static String toKey(Tag tag) {
+        return tag.tagName.toLowerCase();
+    }
+}
@@ -0,0 +1,183 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Saves the address book on a background thread, coalescing bursts of changes into a single write.
+ *
+ * A save is written at most {@code maxDelayMillis} after the first change that is not yet saved, or as soon as
+ * {@code maxPendingChanges} changes have piled up, whichever comes first. Only the latest requested address book is
+ * written, since it already includes every earlier change.
+ *
+ * Every failure of a save, including an unexpected runtime exception from the storage, is reported to the error
+ * handler from the background thread as an {@code IOException}. The address book that failed to save is kept pending,
+ * so that it is written by the next save or by {@link #flush()}.
+ */
+public class BackgroundAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundAddressBookSaver.class);
+
+    private final Storage storage;
+    private final long maxDelayMillis;
+    private final int maxPendingChanges;
+    private final ScheduledExecutorService executor;
+    private volatile Consumer<IOException> errorHandler = unused -> { };
+
+    // Guarded by this
+    private ReadOnlyAddressBook pendingAddressBook;
+    private boolean isSaving;
+    private int pendingChangeCount;
+    private ScheduledFuture<?> scheduledSave;
+
+    /**
+     * Creates a {@code BackgroundAddressBookSaver} that writes to {@code storage}.
+     * {@code maxPendingChanges} less than one is treated as one.
+     */
+    public BackgroundAddressBookSaver(Storage storage, long maxDelayMillis, int maxPendingChanges) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.maxDelayMillis = Math.max(maxDelayMillis, 0);
+        this.maxPendingChanges = Math.max(maxPendingChanges, 1);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is called on the background thread whenever a save fails.
+     */
+    public void setErrorHandler(Consumer<IOException> errorHandler) {
+        requireNonNull(errorHandler);
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Schedules the address book in {@code snapshot} to be saved.
+     * The snapshot never changes, so it is handed to the background thread as it is, without copying any persons.
+     */
+    public synchronized void requestSave(AddressBookSnapshot snapshot) {
+        requireNonNull(snapshot);
+        ObservableList<Person> persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(snapshot.getPersons()));
+        pendingAddressBook = () -> persons;
+        pendingChangeCount++;
+
+        if (pendingChangeCount >= maxPendingChanges) {
+            if (scheduledSave != null) {
+                scheduledSave.cancel(false);
+            }
+            scheduledSave = executor.schedule(this::saveAndReport, 0, TimeUnit.MILLISECONDS);
+        } else if (scheduledSave == null) {
+            scheduledSave = executor.schedule(this::saveAndReport, maxDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns true if there are changes that are not yet saved, including changes that are being written.
+     */
+    public synchronized boolean hasPendingChanges() {
+        return pendingAddressBook != null || isSaving;
+    }
+
+    /**
+     * Writes any pending changes right away and waits for the write to finish.
+     *
+     * @throws IOException if the pending changes could not be saved.
+     */
+    public void flush() throws IOException {
+        synchronized (this) {
+            if (scheduledSave != null) {
+                scheduledSave.cancel(false);
+                scheduledSave = null;
+            }
+        }
+
+        try {
+            executor.submit(() -> {
+                savePending();
+                return null;
+            }).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving the address book", e);
+        }
+    }
+
+    /**
+     * Flushes any pending changes and stops the background thread.
+     *
+     * @throws IOException if the pending changes could not be saved.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void saveAndReport() {
+        try {
+            savePending();
+        } catch (IOException e) {
+            logger.warning("Failed to save address book in the background: " + StringUtil.getDetails(e));
+            errorHandler.accept(e);
+        }
+    }
+
+    private void savePending() throws IOException {
+        ReadOnlyAddressBook addressBook;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            pendingAddressBook = null;
+            pendingChangeCount = 0;
+            scheduledSave = null;
+            isSaving = addressBook != null;
+        }
+        if (addressBook == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(addressBook);
+        } catch (IOException | RuntimeException e) {
+            synchronized (this) {
+                if (pendingAddressBook == null) {
+                    pendingAddressBook = addressBook;
+                }
+            }
+            if (e instanceof IOException) {
+                throw (IOException) e;
+            }
+            throw new IOException("Unexpected error while saving the address book", e);
+        } finally {
+            synchronized (this) {
+                isSaving = false;
+            }
+        }
+    }
+}
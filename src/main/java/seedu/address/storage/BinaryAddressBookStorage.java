@@ -0,0 +1,397 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * The binary file of the address book at {@code data/addressbook.json} is {@code data/addressbook.bin}.
+ *
+ * The file is read into a single buffer with one bulk read, and each person is decoded straight from its bytes into a
+ * {@code JsonAdaptedPerson}. It then goes through the same checks as a person read from json. The file is not memory
+ * mapped, since a mapping stays open until it is garbage collected, and an open mapping keeps the file from being
+ * replaced by the next save on Windows. The bulk read costs one copy of the file into the heap over a mapping, which
+ * is small next to decoding the persons, and the decoding itself is the same either way.
+ *
+ * If there is no binary file yet, the address book is read from the json file at the given path instead. It is then
+ * migrated to the binary format on the next save.
+ *
+ * <p>All numbers are big-endian 32-bit integers, and every string is its UTF-8 length followed by its bytes, with a
+ * length of -1 for a missing value. The file holds, in order:
+ * <ul>
+ *     <li>the magic number {@code ERAB} and the format version</li>
+ *     <li>the tag dictionary: the number of distinct tag names, then each tag name</li>
+ *     <li>the record offset table: the number of persons, then the file offset of each person's record</li>
+ *     <li>the records: name, phone, email, address and remark, then the number of tags and the dictionary index of
+ *     each tag</li>
+ * </ul>
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+    private static final int MAGIC = 0x45524142;
+    private static final int NULL_LENGTH = -1;
+
+    private final Path filePath;
+    private final int maxPersons;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, Config.DEFAULT_MAX_PERSONS);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that keeps at most {@code maxPersons} entries when loading and saving.
+     * A {@code maxPersons} of zero or less means that every entry is kept.
+     */
+    public BinaryAddressBookStorage(Path filePath, int maxPersons) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.maxPersons = maxPersons;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the binary file of the address book at {@code filePath}.
+     */
+    public static Path getBinaryPath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + ".bin");
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the json data, next to which the binary file is kept. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path binaryPath = getBinaryPath(filePath);
+        if (!Files.exists(binaryPath)) {
+            logger.info("No binary file found at " + binaryPath + ". Reading " + filePath + " instead.");
+            return new JsonAddressBookStorage(filePath, maxPersons).readAddressBook(filePath);
+        }
+
+        JsonAdaptedPersonLoader loader = new JsonAdaptedPersonLoader(maxPersons);
+        try {
+            BinaryReader reader = new BinaryReader(readFile(binaryPath));
+            for (int i = 0; i < reader.getPersonCount(); i++) {
+                if (loader.isFull()) {
+                    loader.skip();
+                } else {
+                    loader.load(reader.readPerson(i));
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + binaryPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        try {
+            return Optional.of(loader.finish());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + binaryPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the json data, next to which the binary file is kept. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        if (maxPersons > 0 && persons.size() > maxPersons) {
+            logger.warning("Address book contains " + persons.size() + " entries, which exceeds the limit of "
+                    + maxPersons + ". The last " + (persons.size() - maxPersons) + " entries will be removed.");
+            persons = persons.subList(0, maxPersons);
+        }
+
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>(persons.size());
+        persons.forEach(person -> adaptedPersons.add(new JsonAdaptedPerson(person)));
+        FileUtil.writeAtomically(getBinaryPath(filePath), out -> write(adaptedPersons, out), true);
+    }
+
+    /**
+     * Returns the whole content of the file at {@code path} in a heap buffer, which is released like any other object
+     * once it is no longer used.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    static ByteBuffer readFile(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(path + " is too large to read (" + size + " bytes)");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Keep reading until the buffer is full or the file ends
+            }
+            buffer.flip();
+            return buffer;
+        }
+    }
+
+    /**
+     * Converts the binary address book in {@code buffer} into the json layout of the same address book.
+     *
+     * @throws IOException if {@code buffer} does not hold a valid binary address book.
+     */
+    static JsonSerializableAddressBook toJsonSerializable(ByteBuffer buffer) throws IOException {
+        BinaryReader reader = new BinaryReader(buffer);
+        List<JsonAdaptedPerson> persons = new ArrayList<>(reader.getPersonCount());
+        for (int i = 0; i < reader.getPersonCount(); i++) {
+            persons.add(reader.readPerson(i));
+        }
+        return new JsonSerializableAddressBook(persons);
+    }
+
+    /**
+     * Writes the address book in the json layout {@code addressBook} to {@code out} in the binary format.
+     */
+    static void fromJsonSerializable(JsonSerializableAddressBook addressBook, OutputStream out) throws IOException {
+        write(addressBook.getPersons(), out);
+    }
+
+    private static void write(List<JsonAdaptedPerson> persons, OutputStream out) throws IOException {
+        Map<String, Integer> tagIds = new LinkedHashMap<>();
+        for (JsonAdaptedPerson person : persons) {
+            for (JsonAdaptedTag tag : person.getTags()) {
+                tagIds.putIfAbsent(tag.getTagName(), tagIds.size());
+            }
+        }
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(FORMAT_VERSION);
+        data.writeInt(tagIds.size());
+        for (String tagName : tagIds.keySet()) {
+            writeString(data, tagName);
+        }
+
+        // Record sizes are known up front, so the offset table can be written before the records
+        data.writeInt(persons.size());
+        long offset = data.size() + (long) Integer.BYTES * persons.size();
+        for (JsonAdaptedPerson person : persons) {
+            data.writeInt(Math.toIntExact(offset));
+            offset += getRecordLength(person);
+        }
+
+        for (JsonAdaptedPerson person : persons) {
+            writeString(data, person.getName());
+            writeString(data, person.getPhone());
+            writeString(data, person.getEmail());
+            writeString(data, person.getAddress());
+            writeString(data, person.getRemark());
+            data.writeInt(person.getTags().size());
+            for (JsonAdaptedTag tag : person.getTags()) {
+                data.writeInt(tagIds.get(tag.getTagName()));
+            }
+        }
+        data.flush();
+
+        if (data.size() != offset) {
+            throw new IOException("Binary address book is " + data.size() + " bytes instead of " + offset);
+        }
+    }
+
+    private static long getRecordLength(JsonAdaptedPerson person) {
+        return getStringLength(person.getName()) + getStringLength(person.getPhone())
+                + getStringLength(person.getEmail()) + getStringLength(person.getAddress())
+                + getStringLength(person.getRemark())
+                + Integer.BYTES + (long) Integer.BYTES * person.getTags().size();
+    }
+
+    /**
+     * Returns the number of bytes {@link #writeString(DataOutputStream, String)} writes for {@code value}, without
+     * encoding it. Unpaired surrogates count as the single replacement byte that the encoder writes for them.
+     */
+    private static long getStringLength(String value) {
+        long length = Integer.BYTES;
+        if (value == null) {
+            return length;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length += 1;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        if (value == null) {
+            data.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    /**
+     * Decodes persons from a binary address book, in any order, using the record offset table.
+     */
+    private static class BinaryReader {
+        private final ByteBuffer buffer;
+        private final List<JsonAdaptedTag> tags = new ArrayList<>();
+        private final int personCount;
+        private final int offsetTableStart;
+        private byte[] scratch = new byte[64];
+
+        /**
+         * Reads the header, tag dictionary and record count of the binary address book in {@code buffer}.
+         *
+         * @throws IOException if {@code buffer} does not hold a supported binary address book.
+         */
+        BinaryReader(ByteBuffer buffer) throws IOException {
+            this.buffer = buffer.duplicate();
+            try {
+                if (this.buffer.getInt() != MAGIC) {
+                    throw new IOException("Not a binary address book");
+                }
+                int version = this.buffer.getInt();
+                if (version != FORMAT_VERSION) {
+                    throw new IOException("Unsupported binary address book version " + version);
+                }
+
+                int tagCount = readCount(this.buffer);
+                for (int i = 0; i < tagCount; i++) {
+                    tags.add(new JsonAdaptedTag(readString(this.buffer)));
+                }
+
+                personCount = readCount(this.buffer);
+                offsetTableStart = this.buffer.position();
+                if ((long) personCount * Integer.BYTES > this.buffer.remaining()) {
+                    throw new IOException("Binary address book is truncated");
+                }
+            } catch (BufferUnderflowException e) {
+                throw new IOException("Binary address book is truncated", e);
+            }
+        }
+
+        int getPersonCount() {
+            return personCount;
+        }
+
+        /**
+         * Decodes the person at {@code index} of the record offset table.
+         *
+         * @throws IOException if the record is damaged.
+         */
+        JsonAdaptedPerson readPerson(int index) throws IOException {
+            assert index >= 0 && index < personCount;
+            try {
+                int offset = buffer.getInt(offsetTableStart + index * Integer.BYTES);
+                if (offset < offsetTableStart || offset >= buffer.limit()) {
+                    throw new IOException("Record " + index + " has an invalid offset " + offset);
+                }
+
+                ByteBuffer record = buffer.duplicate();
+                record.position(offset);
+                String name = readString(record);
+                String phone = readString(record);
+                String email = readString(record);
+                String address = readString(record);
+                String remark = readString(record);
+
+                int tagCount = readCount(record);
+                List<JsonAdaptedTag> personTags = new ArrayList<>(tagCount);
+                for (int i = 0; i < tagCount; i++) {
+                    int tagId = record.getInt();
+                    if (tagId < 0 || tagId >= tags.size()) {
+                        throw new IOException("Record " + index + " refers to an unknown tag " + tagId);
+                    }
+                    personTags.add(tags.get(tagId));
+                }
+                return new JsonAdaptedPerson(name, phone, email, address, remark, personTags);
+            } catch (BufferUnderflowException e) {
+                throw new IOException("Record " + index + " is truncated", e);
+            }
+        }
+
+        private String readString(ByteBuffer source) throws IOException {
+            int length = source.getInt();
+            if (length == NULL_LENGTH) {
+                return null;
+            }
+            if (length < 0 || length > source.remaining()) {
+                throw new IOException("Invalid string length " + length + " at " + (source.position() - 4));
+            }
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            source.get(scratch, 0, length);
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+
+        private static int readCount(ByteBuffer source) throws IOException {
+            int count = source.getInt();
+            if (count < 0) {
+                throw new IOException("Invalid count " + count + " at " + (source.position() - 4));
+            }
+            return count;
+        }
+    }
+}
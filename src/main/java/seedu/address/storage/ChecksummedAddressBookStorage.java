@@ -0,0 +1,369 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as checksummed json lines on the hard disk.
+ * The records of the address book at {@code data/addressbook.json} are kept in {@code data/addressbook.jsonl}.
+ *
+ * After a header line, each line holds one person as compact json, preceded by the CRC32C of the json in hex and a
+ * space. A damaged region of the file therefore only loses the records whose lines it touches: the loader checks
+ * every line on its own and resumes at the next line break, so every intact record is still loaded. Before a damaged
+ * file can be overwritten by the next save, it is copied to {@code data/addressbook.jsonl.damaged} so that the lost
+ * records can still be recovered by hand.
+ *
+ * If there is no records file yet, the address book is read from the json file at the given path instead. It is then
+ * migrated to checksummed records on the next save.
+ */
+public class ChecksummedAddressBookStorage implements AddressBookStorage {
+
+    public static final String HEADER = "elderring-records 1";
+
+    private static final Logger logger = LogsCenter.getLogger(ChecksummedAddressBookStorage.class);
+    private static final int CHECKSUM_LENGTH = 8;
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+    private static final byte[] HEADER_BYTES = HEADER.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final Path filePath;
+    private final int maxPersons;
+
+    public ChecksummedAddressBookStorage(Path filePath) {
+        this(filePath, Config.DEFAULT_MAX_PERSONS);
+    }
+
+    /**
+     * Creates a {@code ChecksummedAddressBookStorage} that keeps at most {@code maxPersons} entries when loading and
+     * saving. A {@code maxPersons} of zero or less means that every entry is kept.
+     */
+    public ChecksummedAddressBookStorage(Path filePath, int maxPersons) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.maxPersons = maxPersons;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the records file of the address book at {@code filePath}.
+     */
+    public static Path getRecordsPath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + ".jsonl");
+    }
+
+    /**
+     * Returns the file that a damaged records file at {@code recordsPath} is copied to.
+     */
+    public static Path getDamagedCopyPath(Path recordsPath) {
+        return recordsPath.resolveSibling(recordsPath.getFileName() + ".damaged");
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Damaged records are skipped rather than failing the whole load.
+     *
+     * @param filePath location of the json data, next to which the records file is kept. Cannot be null.
+     * @throws DataLoadingException if the records file cannot be read, or has no intact record at all.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path recordsPath = getRecordsPath(filePath);
+        if (!Files.exists(recordsPath)) {
+            logger.info("No records file found at " + recordsPath + ". Reading " + filePath + " instead.");
+            return new JsonAddressBookStorage(filePath, maxPersons).readAddressBook(filePath);
+        }
+
+        JsonAdaptedPersonLoader loader = new JsonAdaptedPersonLoader(maxPersons);
+        RecoveryReport report;
+        try (InputStream in = Files.newInputStream(recordsPath)) {
+            report = readRecords(in, loader);
+        } catch (IOException e) {
+            logger.warning("Error reading from records file " + recordsPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        if (report.damagedLineCount > 0) {
+            logger.warning("Skipped " + report.damagedLineCount + " damaged lines in " + report.damagedRegionCount
+                    + " regions of " + recordsPath + ", starting at line " + report.firstDamagedLine + ". "
+                    + report.intactRecordCount + " intact records were recovered.");
+            keepDamagedCopy(recordsPath);
+            if (report.intactRecordCount == 0) {
+                throw new DataLoadingException(new IOException("No intact records found in " + recordsPath));
+            }
+        }
+
+        try {
+            return Optional.of(loader.finish());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + recordsPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the json data, next to which the records file is kept. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        if (maxPersons > 0 && persons.size() > maxPersons) {
+            logger.warning("Address book contains " + persons.size() + " entries, which exceeds the limit of "
+                    + maxPersons + ". The last " + (persons.size() - maxPersons) + " entries will be removed.");
+            persons = persons.subList(0, maxPersons);
+        }
+
+        List<Person> savedPersons = persons;
+        FileUtil.writeAtomically(getRecordsPath(filePath), out -> writeRecords(savedPersons, out), true);
+    }
+
+    /**
+     * Writes the header line and then one checksummed line per person of {@code persons} to {@code out}.
+     */
+    static void writeRecords(List<Person> persons, OutputStream out) throws IOException {
+        out.write(HEADER_BYTES);
+        out.write('\n');
+
+        CRC32C crc = new CRC32C();
+        byte[] checksum = new byte[CHECKSUM_LENGTH + 1];
+        checksum[CHECKSUM_LENGTH] = ' ';
+        for (Person person : persons) {
+            byte[] json = JsonUtil.toCompactJsonBytes(new JsonAdaptedPerson(person));
+            crc.reset();
+            crc.update(json, 0, json.length);
+            long value = crc.getValue();
+            for (int i = CHECKSUM_LENGTH - 1; i >= 0; i--) {
+                checksum[i] = HEX_DIGITS[(int) (value & 0xF)];
+                value >>>= 4;
+            }
+            out.write(checksum);
+            out.write(json);
+            out.write('\n');
+        }
+        out.flush();
+    }
+
+    /**
+     * Feeds every intact record read from {@code in} to {@code loader}, skipping over damaged lines.
+     * A line is damaged if it is not the header line and is not a checksum followed by the json it matches.
+     */
+    static RecoveryReport readRecords(InputStream in, JsonAdaptedPersonLoader loader) throws IOException {
+        RecoveryReport report = new RecoveryReport();
+        CRC32C crc = new CRC32C();
+        LineReader reader = new LineReader(in);
+        long lineNumber = 0;
+        boolean isPreviousLineDamaged = false;
+
+        while (reader.readLine()) {
+            lineNumber++;
+            byte[] line = reader.getLine();
+            int length = reader.getLineLength();
+            if (length == 0 || (lineNumber == 1 && isHeader(line, length))) {
+                continue;
+            }
+
+            JsonAdaptedPerson person = parseRecord(line, length, crc);
+            if (person == null) {
+                report.recordDamage(lineNumber, !isPreviousLineDamaged);
+                isPreviousLineDamaged = true;
+                continue;
+            }
+            isPreviousLineDamaged = false;
+            report.intactRecordCount++;
+            if (loader.isFull()) {
+                loader.skip();
+            } else {
+                loader.load(person);
+            }
+        }
+        return report;
+    }
+
+    /**
+     * Returns the person of the record in the first {@code length} bytes of {@code line}, or null if the record is
+     * damaged.
+     */
+    private static JsonAdaptedPerson parseRecord(byte[] line, int length, CRC32C crc) {
+        if (length <= CHECKSUM_LENGTH + 1 || line[CHECKSUM_LENGTH] != ' ') {
+            return null;
+        }
+
+        long expected = 0;
+        for (int i = 0; i < CHECKSUM_LENGTH; i++) {
+            int digit = Character.digit(line[i], 16);
+            if (digit < 0) {
+                return null;
+            }
+            expected = (expected << 4) | digit;
+        }
+
+        int jsonStart = CHECKSUM_LENGTH + 1;
+        crc.reset();
+        crc.update(line, jsonStart, length - jsonStart);
+        if (crc.getValue() != expected) {
+            return null;
+        }
+
+        try {
+            return JsonUtil.fromJsonBytes(line, jsonStart, length - jsonStart, JsonAdaptedPerson.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static boolean isHeader(byte[] line, int length) {
+        return length == HEADER_BYTES.length && Arrays.equals(line, 0, length, HEADER_BYTES, 0, length);
+    }
+
+    private static void keepDamagedCopy(Path recordsPath) {
+        Path copyPath = getDamagedCopyPath(recordsPath);
+        try {
+            Files.copy(recordsPath, copyPath, StandardCopyOption.REPLACE_EXISTING);
+            logger.warning("A copy of the damaged records file was kept at " + copyPath);
+        } catch (IOException e) {
+            logger.warning("Failed to keep a copy of the damaged records file " + recordsPath + ": " + e);
+        }
+    }
+
+    /**
+     * Splits an input stream into lines of bytes, reading it in large chunks.
+     */
+    private static class LineReader {
+        private final InputStream in;
+        private final byte[] buffer = new byte[READ_BUFFER_SIZE];
+        private int position;
+        private int limit;
+        private byte[] line = new byte[256];
+        private int lineLength;
+
+        LineReader(InputStream in) {
+            this.in = in;
+        }
+
+        /**
+         * Reads the next line, without its line break, into {@link #getLine()}.
+         * Returns false if there is no line left.
+         */
+        boolean readLine() throws IOException {
+            lineLength = 0;
+            boolean hasData = false;
+            while (true) {
+                if (position == limit) {
+                    limit = in.read(buffer);
+                    position = 0;
+                    if (limit <= 0) {
+                        limit = 0;
+                        return hasData;
+                    }
+                }
+                hasData = true;
+
+                int end = position;
+                while (end < limit && buffer[end] != '\n') {
+                    end++;
+                }
+                append(position, end - position);
+                if (end < limit) {
+                    position = end + 1;
+                    if (lineLength > 0 && line[lineLength - 1] == '\r') {
+                        lineLength--;
+                    }
+                    return true;
+                }
+                position = limit;
+            }
+        }
+
+        private void append(int start, int length) {
+            if (lineLength + length > line.length) {
+                line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+            }
+            System.arraycopy(buffer, start, line, lineLength, length);
+            lineLength += length;
+        }
+
+        byte[] getLine() {
+            return line;
+        }
+
+        int getLineLength() {
+            return lineLength;
+        }
+    }
+
+    /**
+     * Counts the intact records and the damaged lines found while reading a records file.
+     */
+    static class RecoveryReport {
+        private int intactRecordCount;
+        private int damagedLineCount;
+        private int damagedRegionCount;
+        private long firstDamagedLine;
+
+        private void recordDamage(long lineNumber, boolean isNewRegion) {
+            if (damagedLineCount == 0) {
+                firstDamagedLine = lineNumber;
+            }
+            damagedLineCount++;
+            if (isNewRegion) {
+                damagedRegionCount++;
+            }
+        }
+
+        int getIntactRecordCount() {
+            return intactRecordCount;
+        }
+
+        int getDamagedLineCount() {
+            return damagedLineCount;
+        }
+
+        int getDamagedRegionCount() {
+            return damagedRegionCount;
+        }
+    }
+}
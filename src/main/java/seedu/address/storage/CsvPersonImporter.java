@@ -0,0 +1,364 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvReader;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads the persons of a CSV file for a bulk import.
+ *
+ * The first record of the file names the columns: {@code name}, {@code phone} and {@code address} are required, while
+ * {@code email}, {@code remark} and {@code tags} are optional. Multiple tags are separated by {@code ;}. Each row is
+ * checked like an entry of the json data file.
+ *
+ * The file is streamed through a pipeline of stages connected by bounded queues: one thread reads chunks of rows,
+ * several threads convert the chunks into persons, and the calling thread puts the chunks back in file order and
+ * drops the rows that are invalid, repeat an earlier row or are already in the address book. Because the queues are
+ * bounded, the reader waits for the converters instead of loading the whole file into memory.
+ */
+public class CsvPersonImporter {
+
+    public static final String COLUMN_NAME = "name";
+    public static final String COLUMN_PHONE = "phone";
+    public static final String COLUMN_EMAIL = "email";
+    public static final String COLUMN_ADDRESS = "address";
+    public static final String COLUMN_REMARK = "remark";
+    public static final String COLUMN_TAGS = "tags";
+    public static final List<String> COLUMNS = Collections.unmodifiableList(Arrays.asList(
+            COLUMN_NAME, COLUMN_PHONE, COLUMN_EMAIL, COLUMN_ADDRESS, COLUMN_REMARK, COLUMN_TAGS));
+    public static final String TAG_SEPARATOR = ";";
+
+    static final int CHUNK_SIZE = 256;
+    static final int QUEUE_CAPACITY = 16;
+
+    private static final Logger logger = LogsCenter.getLogger(CsvPersonImporter.class);
+    private static final List<String> REQUIRED_COLUMNS = Arrays.asList(COLUMN_NAME, COLUMN_PHONE, COLUMN_ADDRESS);
+    private static final Chunk END = new Chunk(-1);
+
+    private final int converterCount;
+
+    public CsvPersonImporter() {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+    }
+
+    /**
+     * Creates a {@code CsvPersonImporter} that converts rows on {@code converterCount} threads.
+     */
+    public CsvPersonImporter(int converterCount) {
+        this.converterCount = Math.max(1, converterCount);
+    }
+
+    /**
+     * Returns the persons of the CSV file at {@code filePath} that may be added to an address book, in file order.
+     * Rows are rejected if they are invalid, repeat the identity of an earlier row, or hold a person for which
+     * {@code isExisting} is true. {@code isExisting} is only called on the calling thread.
+     *
+     * @throws DataLoadingException if the file cannot be read, or its first record does not name the required columns.
+     */
+    public ImportResult importPersons(Path filePath, Predicate<Person> isExisting) throws DataLoadingException {
+        requireAllNonNull(filePath, isExisting);
+
+        long startNanos = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(converterCount + 1, runnable -> {
+            Thread thread = new Thread(runnable, "csv-importer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(filePath, StandardCharsets.UTF_8))) {
+            Map<String, Integer> columns = readColumns(reader);
+            ImportResult result = runPipeline(reader, columns, isExisting, executor);
+            result.elapsedNanos = System.nanoTime() - startNanos;
+            logger.info("Read " + result.getRowCount() + " rows from " + filePath + " in "
+                    + TimeUnit.NANOSECONDS.toMillis(result.elapsedNanos) + " ms, rejecting "
+                    + result.getRejectedCount());
+            return result;
+        } catch (IOException | IllegalValueException e) {
+            throw new DataLoadingException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataLoadingException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the position of each known column named by the first record of {@code reader}.
+     */
+    private static Map<String, Integer> readColumns(CsvReader reader) throws IOException, IllegalValueException {
+        List<String> header = reader.readRecord();
+        if (header == null) {
+            throw new IllegalValueException("The CSV file is empty");
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).trim().toLowerCase();
+            if (COLUMNS.contains(column)) {
+                columns.putIfAbsent(column, i);
+            }
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new IllegalValueException("The CSV file has no " + column + " column. Its first row must name "
+                        + "the columns, out of " + String.join(", ", COLUMNS) + ".");
+            }
+        }
+        return columns;
+    }
+
+    private ImportResult runPipeline(CsvReader reader, Map<String, Integer> columns, Predicate<Person> isExisting,
+            ExecutorService executor) throws IOException, InterruptedException {
+        BlockingQueue<Chunk> readChunks = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        BlockingQueue<Chunk> convertedChunks = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+        Future<?> readTask = executor.submit(() -> {
+            read(reader, readChunks);
+            return null;
+        });
+        List<Future<?>> convertTasks = new ArrayList<>();
+        for (int i = 0; i < converterCount; i++) {
+            convertTasks.add(executor.submit(() -> convert(readChunks, convertedChunks, columns)));
+        }
+
+        ImportResult result = new ImportResult();
+        Set<String> identityKeys = new HashSet<>();
+        Map<Integer, Chunk> waitingChunks = new HashMap<>();
+        int nextChunkIndex = 0;
+        int finishedConverters = 0;
+        while (finishedConverters < converterCount) {
+            Chunk chunk = convertedChunks.take();
+            if (chunk == END) {
+                finishedConverters++;
+                continue;
+            }
+            waitingChunks.put(chunk.index, chunk);
+            while ((chunk = waitingChunks.remove(nextChunkIndex)) != null) {
+                accept(chunk, result, identityKeys, isExisting);
+                nextChunkIndex++;
+            }
+        }
+
+        awaitTask(readTask);
+        for (Future<?> convertTask : convertTasks) {
+            awaitTask(convertTask);
+        }
+        return result;
+    }
+
+    /**
+     * Reads the rows of {@code reader} into chunks, then marks the end of the rows for every converter.
+     */
+    private void read(CsvReader reader, BlockingQueue<Chunk> readChunks) throws IOException, InterruptedException {
+        try {
+            int chunkIndex = 0;
+            Chunk chunk = new Chunk(chunkIndex);
+            List<String> fields;
+            while ((fields = reader.readRecord()) != null) {
+                if (isBlank(fields)) {
+                    continue;
+                }
+                chunk.rows.add(new Row(reader.getRecordLineNumber(), fields));
+                if (chunk.rows.size() == CHUNK_SIZE) {
+                    readChunks.put(chunk);
+                    chunk = new Chunk(++chunkIndex);
+                }
+            }
+            if (!chunk.rows.isEmpty()) {
+                readChunks.put(chunk);
+            }
+        } finally {
+            for (int i = 0; i < converterCount; i++) {
+                readChunks.put(END);
+            }
+        }
+    }
+
+    /**
+     * Converts the rows of the chunks in {@code readChunks} into persons until the end of the rows is reached.
+     */
+    private static void convert(BlockingQueue<Chunk> readChunks, BlockingQueue<Chunk> convertedChunks,
+            Map<String, Integer> columns) {
+        try {
+            try {
+                Chunk chunk;
+                while ((chunk = readChunks.take()) != END) {
+                    chunk.rows.forEach(row -> row.convert(columns));
+                    convertedChunks.put(chunk);
+                }
+            } finally {
+                convertedChunks.put(END);
+            }
+        } catch (InterruptedException e) {
+            // The import was abandoned
+        }
+    }
+
+    /**
+     * Adds the persons of the rows of {@code chunk} to {@code result}, or records why their rows were rejected.
+     */
+    private static void accept(Chunk chunk, ImportResult result, Set<String> identityKeys,
+            Predicate<Person> isExisting) {
+        for (Row row : chunk.rows) {
+            result.rowCount++;
+            if (row.error != null) {
+                result.diagnostics.recordInvalid(row.lineNumber, row.getField(COLUMN_NAME), row.error);
+            } else if (!identityKeys.add(row.person.getIdentityKey())) {
+                result.diagnostics.recordDuplicate(row.lineNumber, row.person);
+            } else if (isExisting.test(row.person)) {
+                result.diagnostics.recordExisting(row.lineNumber, row.person);
+            } else {
+                result.persons.add(row.person);
+            }
+        }
+    }
+
+    private static void awaitTask(Future<?> task) throws IOException, InterruptedException {
+        try {
+            task.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException("CSV import failed", e.getCause());
+        }
+    }
+
+    private static boolean isBlank(List<String> fields) {
+        return fields.stream().allMatch(field -> field.trim().isEmpty());
+    }
+
+    /**
+     * A run of consecutive rows, numbered in file order.
+     */
+    private static class Chunk {
+        private final int index;
+        private final List<Row> rows = new ArrayList<>(CHUNK_SIZE);
+
+        Chunk(int index) {
+            this.index = index;
+        }
+    }
+
+    /**
+     * A row of the CSV file, with the person it holds or the reason it is invalid once converted.
+     */
+    private static class Row {
+        private final int lineNumber;
+        private final List<String> fields;
+        private Map<String, Integer> columns;
+        private Person person;
+        private IllegalValueException error;
+
+        Row(int lineNumber, List<String> fields) {
+            this.lineNumber = lineNumber;
+            this.fields = fields;
+        }
+
+        void convert(Map<String, Integer> columns) {
+            this.columns = columns;
+            List<JsonAdaptedTag> tags = new ArrayList<>();
+            String tagField = getField(COLUMN_TAGS);
+            if (tagField != null) {
+                for (String tagName : tagField.split(TAG_SEPARATOR)) {
+                    if (!tagName.trim().isEmpty()) {
+                        tags.add(new JsonAdaptedTag(tagName.trim()));
+                    }
+                }
+            }
+
+            JsonAdaptedPerson adaptedPerson = new JsonAdaptedPerson(getField(COLUMN_NAME), getField(COLUMN_PHONE),
+                    getField(COLUMN_EMAIL), getField(COLUMN_ADDRESS), getField(COLUMN_REMARK), tags);
+            try {
+                person = adaptedPerson.toModelType();
+            } catch (IllegalValueException e) {
+                error = e;
+            }
+        }
+
+        /**
+         * Returns the trimmed value of {@code column} in this row, or null if the row has no value for it.
+         */
+        String getField(String column) {
+            Integer position = columns.get(column);
+            if (position == null || position >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(position).trim();
+            return value.isEmpty() ? null : value;
+        }
+    }
+
+    /**
+     * The persons read from a CSV file, and a report of the rejected rows.
+     */
+    public static class ImportResult {
+        private final List<Person> persons = new ArrayList<>();
+        private final LoadDiagnostics diagnostics = new LoadDiagnostics();
+        private int rowCount;
+        private long elapsedNanos;
+
+        /**
+         * Returns the persons that may be added to the address book, in file order.
+         */
+        public List<Person> getPersons() {
+            return Collections.unmodifiableList(persons);
+        }
+
+        /**
+         * Returns the number of rows read, not counting the header and blank rows.
+         */
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        public int getRejectedCount() {
+            return diagnostics.getTotalCount();
+        }
+
+        public long getElapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        }
+
+        /**
+         * Returns the number of rows read per second, over the whole import.
+         */
+        public long getRowsPerSecond() {
+            return elapsedNanos == 0 ? 0 : rowCount * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        }
+
+        /**
+         * Returns the counts of the rejected rows per reason and samples of the first ones, or an empty string if no
+         * row was rejected.
+         */
+        public String getRejectionReport() {
+            return diagnostics.isEmpty() ? "" : diagnostics.toReport();
+        }
+    }
+}
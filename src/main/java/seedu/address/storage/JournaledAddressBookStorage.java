@@ -0,0 +1,381 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.Config.DurabilityPolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal of later changes.
+ * The snapshot of {@code data/addressbook.json} is that very file, in the same format as {@link JsonAddressBookStorage}
+ * uses, and its journal is {@code data/addressbook.journal}.
+ *
+ * A save appends one compact json line per added, edited or removed person to the journal, so its cost grows with the
+ * size of the change rather than the size of the address book. Once the journal holds more than the compaction
+ * threshold of entries, or the change is too large to be worth journaling, the whole address book is written as a new
+ * snapshot and the journal is started afresh.
+ *
+ * Appends and snapshots are forced to the storage device according to the durability policy, as in
+ * {@link JsonAddressBookStorage}.
+ *
+ * The journal header records the checksum of the snapshot it applies to. A journal left behind by an interrupted
+ * compaction, or a snapshot edited by hand, is thus detected and the journal is ignored rather than misapplied.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+    private static final String JOURNAL_HEADER_PREFIX = "elderring-journal 1 ";
+
+    private final Path filePath;
+    private final int maxPersons;
+    private final int compactionThreshold;
+    private final int prettyPrintMaxPersons;
+    private final SaveForcer saveForcer;
+
+    // Persons as stored in the snapshot and journal at savedFilePath, or null if they are not known
+    private Path savedFilePath;
+    private List<Person> savedPersons;
+    private int journalEntryCount;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, Config.DEFAULT_MAX_PERSONS);
+    }
+
+    public JournaledAddressBookStorage(Path filePath, int maxPersons) {
+        this(filePath, maxPersons, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps at most {@code maxPersons} entries, or every entry if
+     * {@code maxPersons} is zero or less, and writes a new snapshot once the journal holds more than
+     * {@code compactionThreshold} entries.
+     */
+    public JournaledAddressBookStorage(Path filePath, int maxPersons, int compactionThreshold) {
+        this(filePath, maxPersons, compactionThreshold, Config.DEFAULT_PRETTY_PRINT_MAX_PERSONS);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} like {@link #JournaledAddressBookStorage(Path, int, int)} that
+     * writes snapshots of more than {@code prettyPrintMaxPersons} persons in compact form, without any indentation.
+     */
+    public JournaledAddressBookStorage(Path filePath, int maxPersons, int compactionThreshold,
+            int prettyPrintMaxPersons) {
+        this(filePath, maxPersons, compactionThreshold, prettyPrintMaxPersons, DurabilityPolicy.ALWAYS);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} like {@link #JournaledAddressBookStorage(Path, int, int, int)}
+     * that forces journal appends and snapshots to the storage device according to {@code durabilityPolicy}.
+     */
+    public JournaledAddressBookStorage(Path filePath, int maxPersons, int compactionThreshold,
+            int prettyPrintMaxPersons, DurabilityPolicy durabilityPolicy) {
+        requireNonNull(filePath);
+        requireNonNull(durabilityPolicy);
+        if (compactionThreshold <= 0) {
+            throw new IllegalArgumentException("Compaction threshold must be positive");
+        }
+        this.filePath = filePath;
+        this.maxPersons = maxPersons;
+        this.compactionThreshold = compactionThreshold;
+        this.prettyPrintMaxPersons = prettyPrintMaxPersons;
+        this.saveForcer = new SaveForcer(durabilityPolicy);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the journal of the address book snapshot at {@code filePath}.
+     */
+    public static Path getJournalPath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + ".journal");
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            byte[] snapshot = Files.readAllBytes(filePath);
+            JsonSerializableAddressBook jsonAddressBook = JsonUtil.fromJsonString(
+                    new String(snapshot, StandardCharsets.UTF_8), JsonSerializableAddressBook.class);
+            List<Person> persons = new ArrayList<>(jsonAddressBook.toModelType(0).getPersonList());
+            boolean isSnapshotIntact = persons.size() == jsonAddressBook.getOriginalPersonCount();
+
+            Path journal = getJournalPath(filePath);
+            int replayedCount = -1;
+            if (isSnapshotIntact) {
+                replayedCount = replayJournal(journal, checksumOf(snapshot), persons);
+            } else if (Files.exists(journal)) {
+                logger.warning("Entries were dropped from " + filePath + ", so " + journal + " is ignored.");
+            }
+
+            boolean isTruncated = maxPersons > 0 && persons.size() > maxPersons;
+            if (isTruncated) {
+                logger.warning("Address book contains " + persons.size() + " entries. Only first " + maxPersons
+                        + " were loaded.");
+                persons = persons.subList(0, maxPersons);
+            }
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+
+            // The next save must write a fresh snapshot unless the data matches exactly what is stored
+            savedFilePath = filePath;
+            savedPersons = replayedCount >= 0 && !isTruncated ? new ArrayList<>(addressBook.getPersonList()) : null;
+            journalEntryCount = Math.max(replayedCount, 0);
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException | DuplicatePersonException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Applies the entries of {@code journal} to {@code persons} if the journal belongs to the snapshot with
+     * {@code snapshotChecksum}.
+     * A trailing entry that cannot be parsed is taken to be a write that was cut short, and is dropped.
+     *
+     * @return the number of entries applied, or -1 if the journal does not fully apply and must be compacted away.
+     */
+    private static int replayJournal(Path journal, String snapshotChecksum, List<Person> persons)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journal)) {
+            return -1;
+        }
+
+        List<String> lines = Files.readAllLines(journal, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.get(0).equals(JOURNAL_HEADER_PREFIX + snapshotChecksum)) {
+            logger.info(journal + " does not belong to the current snapshot and is ignored.");
+            return -1;
+        }
+
+        int appliedCount = 0;
+        for (int i = 1; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (i < lines.size() - 1) {
+                    throw e;
+                }
+                logger.warning("Dropping incomplete last entry of " + journal + ": " + e.getMessage());
+                return -1;
+            }
+            entry.applyTo(persons);
+            appliedCount++;
+        }
+        return appliedCount;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        if (maxPersons > 0 && persons.size() > maxPersons) {
+            logger.warning("Address book contains " + persons.size() + " entries, which exceeds the limit of "
+                    + maxPersons + ". The last " + (persons.size() - maxPersons) + " entries will be removed.");
+            persons = persons.subList(0, maxPersons);
+        }
+
+        if (filePath.equals(savedFilePath) && savedPersons != null) {
+            List<JsonAdaptedJournalEntry> entries = diff(savedPersons, persons);
+            if (journalEntryCount + entries.size() <= compactionThreshold) {
+                appendToJournal(getJournalPath(filePath), entries);
+                journalEntryCount += entries.size();
+                savedPersons = new ArrayList<>(persons);
+                return;
+            }
+        }
+
+        compact(persons, filePath);
+    }
+
+    /**
+     * Returns the journal entries that turn {@code oldPersons} into {@code newPersons}.
+     * Persons are compared by reference, since an edited person is always a new object. Only the run between the
+     * longest unchanged prefix and suffix is examined, and within it persons missing from the other list become adds
+     * and removes while persons present in both but out of place are overwritten. A single add, edit or delete thus
+     * becomes a single entry.
+     */
+    private static List<JsonAdaptedJournalEntry> diff(List<Person> oldPersons, List<Person> newPersons) {
+        int oldEnd = oldPersons.size();
+        int newEnd = newPersons.size();
+
+        int start = 0;
+        while (start < oldEnd && start < newEnd && oldPersons.get(start) == newPersons.get(start)) {
+            start++;
+        }
+        while (oldEnd > start && newEnd > start && oldPersons.get(oldEnd - 1) == newPersons.get(newEnd - 1)) {
+            oldEnd--;
+            newEnd--;
+        }
+
+        Set<Person> changedOldPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        changedOldPersons.addAll(oldPersons.subList(start, oldEnd));
+        Set<Person> changedNewPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        changedNewPersons.addAll(newPersons.subList(start, newEnd));
+
+        // Everything before position is final, and the unprocessed old persons follow it in order
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        int position = start;
+        int oldIndex = start;
+        int newIndex = start;
+        while (oldIndex < oldEnd || newIndex < newEnd) {
+            boolean hasOld = oldIndex < oldEnd;
+            boolean hasNew = newIndex < newEnd;
+            if (hasOld && hasNew && oldPersons.get(oldIndex) == newPersons.get(newIndex)) {
+                oldIndex++;
+                newIndex++;
+                position++;
+                continue;
+            }
+
+            boolean isOldRemoved = hasOld && !changedNewPersons.contains(oldPersons.get(oldIndex));
+            boolean isNewAdded = hasNew && !changedOldPersons.contains(newPersons.get(newIndex));
+            if (hasOld && hasNew && isOldRemoved == isNewAdded) {
+                entries.add(JsonAdaptedJournalEntry.set(position, newPersons.get(newIndex)));
+                oldIndex++;
+                newIndex++;
+                position++;
+            } else if (hasNew && !isOldRemoved) {
+                entries.add(JsonAdaptedJournalEntry.add(position, newPersons.get(newIndex)));
+                newIndex++;
+                position++;
+            } else {
+                entries.add(JsonAdaptedJournalEntry.remove(position));
+                oldIndex++;
+            }
+        }
+        return entries;
+    }
+
+    private void appendToJournal(Path journal, List<JsonAdaptedJournalEntry> entries) throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+        boolean shouldForce = saveForcer.shouldForce();
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            BufferedWriter writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+            for (JsonAdaptedJournalEntry entry : entries) {
+                writer.write(JsonUtil.toCompactJsonString(entry));
+                writer.newLine();
+            }
+            writer.flush();
+            if (shouldForce) {
+                channel.force(false);
+            }
+        }
+        saveForcer.written(journal, shouldForce);
+    }
+
+    /**
+     * Writes {@code persons} as a new snapshot at {@code filePath} and starts an empty journal for it.
+     * The snapshot is replaced atomically first, so an interrupted compaction leaves either the old snapshot with its
+     * journal, or the new snapshot with a journal whose checksum no longer matches.
+     */
+    private void compact(List<Person> persons, Path filePath) throws IOException {
+        CRC32 snapshotCrc = new CRC32();
+        boolean isPrettyPrinted = persons.size() <= prettyPrintMaxPersons;
+        boolean shouldForce = saveForcer.shouldForce();
+        FileUtil.writeAtomically(filePath, out -> JsonAddressBookStorage.writeAddressBook(persons,
+                new CheckedOutputStream(out, snapshotCrc), isPrettyPrinted), shouldForce);
+
+        // The new journal is forced along with the snapshot, or later appends could land in a journal that is lost
+        Path journal = getJournalPath(filePath);
+        String header = JOURNAL_HEADER_PREFIX + formatChecksum(snapshotCrc.getValue()) + System.lineSeparator();
+        FileUtil.writeAtomically(journal, out -> out.write(header.getBytes(StandardCharsets.UTF_8)), shouldForce);
+        saveForcer.written(filePath, shouldForce);
+        saveForcer.written(journal, shouldForce);
+
+        logger.fine("Compacted " + persons.size() + " entries into " + filePath);
+        savedFilePath = filePath;
+        savedPersons = new ArrayList<>(persons);
+        journalEntryCount = 0;
+    }
+
+    /**
+     * Returns true if a save is waiting for a deferred force to the storage device.
+     */
+    boolean hasDeferredForce() {
+        return saveForcer.hasDeferredForce();
+    }
+
+    private static String checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return formatChecksum(crc.getValue());
+    }
+
+    private static String formatChecksum(long checksum) {
+        return String.format("%08x", checksum);
+    }
+}
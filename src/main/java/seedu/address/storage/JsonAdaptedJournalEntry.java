@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change to the list of persons, as recorded in an address book journal.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String OPERATION_ADD = "add";
+    public static final String OPERATION_SET = "set";
+    public static final String OPERATION_REMOVE = "remove";
+
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry '%s' at index %d cannot be applied to %d persons";
+
+    private final String op;
+    private final int index;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("op") String op, @JsonProperty("index") int index,
+                                   @JsonProperty("person") JsonAdaptedPerson person) {
+        this.op = op;
+        this.index = index;
+        this.person = person;
+    }
+
+    /**
+     * Returns an entry that inserts {@code person} at {@code index}.
+     */
+    public static JsonAdaptedJournalEntry add(int index, Person person) {
+        return new JsonAdaptedJournalEntry(OPERATION_ADD, index, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns an entry that replaces the person at {@code index} with {@code person}.
+     */
+    public static JsonAdaptedJournalEntry set(int index, Person person) {
+        return new JsonAdaptedJournalEntry(OPERATION_SET, index, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns an entry that removes the person at {@code index}.
+     */
+    public static JsonAdaptedJournalEntry remove(int index) {
+        return new JsonAdaptedJournalEntry(OPERATION_REMOVE, index, null);
+    }
+
+    /**
+     * Applies this entry to {@code persons}.
+     *
+     * @throws IllegalValueException if the entry is malformed or does not fit {@code persons}.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (OPERATION_REMOVE.equals(op)) {
+            checkIndex(index < persons.size(), persons);
+            persons.remove(index);
+            return;
+        }
+
+        if (person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, op, index, persons.size()));
+        }
+        if (OPERATION_ADD.equals(op)) {
+            checkIndex(index <= persons.size(), persons);
+            persons.add(index, person.toModelType());
+        } else if (OPERATION_SET.equals(op)) {
+            checkIndex(index < persons.size(), persons);
+            persons.set(index, person.toModelType());
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, op, index, persons.size()));
+        }
+    }
+
+    private void checkIndex(boolean isWithinBound, List<Person> persons) throws IllegalValueException {
+        if (index < 0 || !isWithinBound) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, op, index, persons.size()));
+        }
+    }
+}
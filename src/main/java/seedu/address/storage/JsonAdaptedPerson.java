@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.exceptions.IllegalValueException.ErrorCode;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -64,6 +65,30 @@ class JsonAdaptedPerson {
                 .collect(Collectors.toList()));
     }
 
+    String getName() {
+        return name;
+    }
+
+    String getPhone() {
+        return phone;
+    }
+
+    String getEmail() {
+        return email;
+    }
+
+    String getAddress() {
+        return address;
+    }
+
+    String getRemark() {
+        return remark;
+    }
+
+    List<JsonAdaptedTag> getTags() {
+        return tags;
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
@@ -76,18 +101,18 @@ class JsonAdaptedPerson {
         }
 
         if (name == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
+            throw missingField(Name.class);
         }
         if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            throw invalidField(Name.class, Name.MESSAGE_CONSTRAINTS);
         }
         final Name modelName = new Name(name);
 
         if (phone == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
+            throw missingField(Phone.class);
         }
         if (!Phone.isValidPhone(phone)) {
-            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+            throw invalidField(Phone.class, Phone.MESSAGE_CONSTRAINTS);
         }
         final Phone modelPhone = new Phone(phone);
 
@@ -104,26 +129,33 @@ class JsonAdaptedPerson {
         }
 
         if (address == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
+            throw missingField(Address.class);
         }
         if (!Address.isValidAddress(address)) {
-            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+            throw invalidField(Address.class, Address.MESSAGE_CONSTRAINTS);
         }
         final Address modelAddress = new Address(address);
 
         final Remark modelRemark;
         if (remark == null || remark.trim().isEmpty()) {
             modelRemark = new Remark("");
+        } else if (!Remark.isValidRemark(remark)) {
+            throw invalidField(Remark.class, Remark.MESSAGE_CONSTRAINTS);
         } else {
-            try {
-                modelRemark = new Remark(remark);
-            } catch (IllegalArgumentException ex) {
-                throw new seedu.address.commons.exceptions.IllegalValueException(Remark.MESSAGE_CONSTRAINTS, ex);
-            }
+            modelRemark = new Remark(remark);
         }
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
         return new Person(modelName, modelPhone, modelEmail, modelAddress, modelRemark, modelTags);
     }
 
+    private static IllegalValueException missingField(Class<?> field) {
+        return new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, field.getSimpleName()),
+                ErrorCode.MISSING_FIELD, field.getSimpleName());
+    }
+
+    private static IllegalValueException invalidField(Class<?> field, String constraints) {
+        return new IllegalValueException(constraints, ErrorCode.INVALID_FIELD, field.getSimpleName());
+    }
+
 }
@@ -0,0 +1,216 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts {@code JsonAdaptedPerson}s one at a time into the model's {@code AddressBook}.
+ * Entries that are invalid or duplicate an earlier entry's PHONE + NAME combination are skipped and reported together
+ * by {@link LoadDiagnostics}, and entries beyond the entry limit are only counted.
+ *
+ * Since no entry needs to be kept after it is added, entries can be fed in while they are still being read.
+ *
+ * Entries are converted in batches. The conversion of a batch, which validates every field, is spread over the
+ * common fork-join pool, but the converted entries are then added one at a time in the order they were fed in.
+ * Which of two duplicate entries is kept, and the entry numbers in the log, are thus the same as in a sequential load.
+ */
+class JsonAdaptedPersonLoader {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAdaptedPersonLoader.class);
+    private static final int BATCH_SIZE = 1024;
+    // Smaller batches are converted on the calling thread, where forking would cost more than it saves
+    private static final int PARALLEL_THRESHOLD = 64;
+
+    private final int maxPersons;
+    private final AddressBook addressBook = new AddressBook();
+    private final List<JsonAdaptedPerson> pending = new ArrayList<>();
+    private final LoadDiagnostics diagnostics = new LoadDiagnostics();
+    private int entryCount = 0;
+    private int loadedCount = 0;
+    private int duplicateCount = 0;
+    private int invalidCount = 0;
+    private int skippedDueToLimit = 0;
+
+    /**
+     * Creates a {@code JsonAdaptedPersonLoader} that keeps at most {@code maxPersons} entries, or every entry if
+     * {@code maxPersons} is zero or less.
+     */
+    JsonAdaptedPersonLoader(int maxPersons) {
+        this.maxPersons = maxPersons;
+    }
+
+    /**
+     * Returns true if the entry limit is reached, so that further entries need not be converted.
+     */
+    boolean isFull() {
+        return maxPersons > 0 && loadedCount >= maxPersons;
+    }
+
+    /**
+     * Adds the person of {@code jsonAdaptedPerson} to the address book, unless it is invalid or a duplicate.
+     * The entry is only counted if the entry limit is reached.
+     *
+     * The entry may be held back until a whole batch of entries can be converted, but it is always added before any
+     * entry fed in after it, and before {@link #isFull()} can next return true.
+     */
+    void load(JsonAdaptedPerson jsonAdaptedPerson) {
+        if (isFull()) {
+            skip();
+            return;
+        }
+
+        pending.add(jsonAdaptedPerson);
+        // Converting no more entries than could still fit keeps isFull exact for the entries read next
+        if (pending.size() >= BATCH_SIZE || (maxPersons > 0 && loadedCount + pending.size() >= maxPersons)) {
+            loadPending();
+        }
+    }
+
+    /**
+     * Converts the pending entries in parallel and adds them in the order they were fed in.
+     */
+    private void loadPending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Stream<JsonAdaptedPerson> stream = pending.size() >= PARALLEL_THRESHOLD
+                ? pending.parallelStream()
+                : pending.stream();
+        List<Conversion> conversions = stream.map(Conversion::of).collect(Collectors.toList());
+        pending.clear();
+
+        for (Conversion conversion : conversions) {
+            if (isFull()) {
+                skip();
+            } else {
+                add(conversion);
+            }
+        }
+    }
+
+    private void add(Conversion conversion) {
+        entryCount++;
+
+        if (conversion.error != null) {
+            invalidCount++;
+            diagnostics.recordInvalid(entryCount, conversion.name, conversion.error);
+            return;
+        }
+
+        Person person = conversion.person;
+        if (hasDuplicatePhoneName(person)) {
+            duplicateCount++;
+            diagnostics.recordDuplicate(entryCount, person);
+            return;
+        }
+
+        addressBook.addPerson(person);
+        loadedCount++;
+    }
+
+    /**
+     * Counts an entry beyond the entry limit without converting it.
+     */
+    void skip() {
+        entryCount++;
+        skippedDueToLimit++;
+    }
+
+    /**
+     * Returns the number of entries fed in so far, including skipped ones.
+     */
+    int getEntryCount() {
+        return entryCount + pending.size();
+    }
+
+    /**
+     * Returns the report of the entries skipped so far for being invalid or duplicates.
+     */
+    LoadDiagnostics getDiagnostics() {
+        return diagnostics;
+    }
+
+    /**
+     * Logs a summary of the loaded entries and returns the address book holding them.
+     *
+     * @throws IllegalValueException if there were entries, but none of them was valid.
+     */
+    AddressBook finish() throws IllegalValueException {
+        loadPending();
+
+        // Log warning if limit was exceeded
+        if (skippedDueToLimit > 0) {
+            logger.warning(String.format(JsonSerializableAddressBook.MESSAGE_ENTRY_LIMIT_EXCEEDED, maxPersons)
+                    + " Skipped " + skippedDueToLimit + " entries beyond limit.");
+        }
+
+        // Log comprehensive summary
+        StringBuilder summary = new StringBuilder();
+        summary.append("Data loading completed: ");
+        summary.append(loadedCount).append(" entries loaded successfully");
+
+        if (duplicateCount > 0) {
+            summary.append(", ").append(duplicateCount).append(" duplicates skipped");
+        }
+        if (invalidCount > 0) {
+            summary.append(", ").append(invalidCount).append(" invalid entries skipped");
+        }
+        if (skippedDueToLimit > 0) {
+            summary.append(", ").append(skippedDueToLimit).append(" entries skipped due to limit");
+        }
+
+        logger.info(summary.toString());
+        if (!diagnostics.isEmpty()) {
+            logger.warning(diagnostics.toReport());
+        }
+
+        if (loadedCount == 0 && entryCount > 0) {
+            throw new IllegalValueException("No valid persons found in data file. "
+                    + "All entries were skipped due to errors.");
+        }
+
+        return addressBook;
+    }
+
+    /**
+     * Checks if the address book already contains a person with the same PHONE + NAME combination.
+     * Other fields (address, email, tags) can be different.
+     * The combination is the person's identity key, which the address book keeps in a hash set, so the check takes
+     * constant time however many entries are already loaded.
+     */
+    private boolean hasDuplicatePhoneName(Person person) {
+        return addressBook.hasPerson(person);
+    }
+
+    /**
+     * The outcome of converting one entry: either its person or the reason it is invalid.
+     */
+    private static class Conversion {
+        private final String name;
+        private final Person person;
+        private final IllegalValueException error;
+
+        private Conversion(String name, Person person, IllegalValueException error) {
+            this.name = name;
+            this.person = person;
+            this.error = error;
+        }
+
+        static Conversion of(JsonAdaptedPerson jsonAdaptedPerson) {
+            try {
+                return new Conversion(jsonAdaptedPerson.getName(), jsonAdaptedPerson.toModelType(), null);
+            } catch (IllegalValueException e) {
+                return new Conversion(jsonAdaptedPerson.getName(), null, e);
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.exceptions.IllegalValueException.ErrorCode;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -39,6 +40,10 @@ class JsonAdaptedTag {
      * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
      */
     public Tag toModelType() throws IllegalValueException {
+        if (tagName == null || !Tag.isValidTagContent(tagName) || !Tag.isValidTagLength(tagName)) {
+            throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS, ErrorCode.INVALID_FIELD,
+                    Tag.class.getSimpleName());
+        }
         return new Tag(tagName.toLowerCase());
     }
 
@@ -3,16 +3,28 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Checksum;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.Config.DurabilityPolicy;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -20,12 +32,44 @@ import seedu.address.model.ReadOnlyAddressBook;
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
-    private static final int MAX_PERSONS_LIMIT = 250;
+    private static final String PERSONS_FIELD = "persons";
 
     private Path filePath;
+    private final int maxPersons;
+    private final int prettyPrintMaxPersons;
+    private final SaveForcer saveForcer;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, Config.DEFAULT_MAX_PERSONS);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that keeps at most {@code maxPersons} entries when loading and saving.
+     * A {@code maxPersons} of zero or less means that every entry is kept.
+     */
+    public JsonAddressBookStorage(Path filePath, int maxPersons) {
+        this(filePath, maxPersons, Config.DEFAULT_PRETTY_PRINT_MAX_PERSONS);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} like {@link #JsonAddressBookStorage(Path, int)} that writes address
+     * books of more than {@code prettyPrintMaxPersons} persons in compact form, without any indentation.
+     */
+    public JsonAddressBookStorage(Path filePath, int maxPersons, int prettyPrintMaxPersons) {
+        this(filePath, maxPersons, prettyPrintMaxPersons, DurabilityPolicy.ALWAYS);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} like {@link #JsonAddressBookStorage(Path, int, int)} that forces saves
+     * to the storage device according to {@code durabilityPolicy}.
+     */
+    public JsonAddressBookStorage(Path filePath, int maxPersons, int prettyPrintMaxPersons,
+            DurabilityPolicy durabilityPolicy) {
+        requireNonNull(durabilityPolicy);
         this.filePath = filePath;
+        this.maxPersons = maxPersons;
+        this.prettyPrintMaxPersons = prettyPrintMaxPersons;
+        this.saveForcer = new SaveForcer(durabilityPolicy);
     }
 
     public Path getAddressBookFilePath() {
@@ -39,6 +83,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * The file is parsed incrementally and each person is converted as soon as it is read, so only one entry is held
+     * in its json form at any time.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -47,25 +93,29 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
+
+        JsonAdaptedPersonLoader loader = new JsonAdaptedPersonLoader(maxPersons);
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            readPersons(parser, loader);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
 
         try {
-            ReadOnlyAddressBook addressBook = jsonAddressBook.get().toModelType();
+            ReadOnlyAddressBook addressBook = loader.finish();
 
             // Log success message with cleanup info
             logger.info("[+] Data loaded! Duplicate entries were automatically removed.");
 
-            // Check if original data exceeded limit and add warning
-            JsonSerializableAddressBook jsonBook = jsonAddressBook.get();
-
             // Log if limit was checked during load
-            if (jsonBook.getOriginalPersonCount() > MAX_PERSONS_LIMIT) {
-                logger.warning("Original JSON file contained " + jsonBook.getOriginalPersonCount()
-                        + " entries. Only first " + MAX_PERSONS_LIMIT + " were loaded.");
+            if (maxPersons > 0 && loader.getEntryCount() > maxPersons) {
+                logger.warning("Original JSON file contained " + loader.getEntryCount()
+                        + " entries. Only first " + maxPersons + " were loaded.");
             }
 
             return Optional.of(addressBook);
@@ -76,6 +126,41 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         }
     }
 
+    /**
+     * Feeds each person of the address book read by {@code parser} to {@code loader} as soon as it is parsed.
+     * Persons beyond the entry limit are skipped over without being bound.
+     */
+    private static void readPersons(JsonParser parser, JsonAdaptedPersonLoader loader) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Expected an address book object at " + parser.getCurrentLocation());
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!PERSONS_FIELD.equals(fieldName) || valueToken == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            if (valueToken != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a list of persons at " + parser.getCurrentLocation());
+            }
+
+            JsonToken elementToken;
+            while ((elementToken = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (elementToken == null) {
+                    throw new IOException("Unexpected end of file in the list of persons");
+                }
+                if (loader.isFull()) {
+                    parser.skipChildren();
+                    loader.skip();
+                } else if (elementToken != JsonToken.VALUE_NULL) {
+                    loader.load(parser.readValueAs(JsonAdaptedPerson.class));
+                }
+            }
+        }
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -87,33 +172,78 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      * @param filePath location of the data. Cannot be null.
      */
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        saveAddressBook(addressBook, filePath, null);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook, Path)}, but also updates {@code checksum}, if it is not
+     * null, with every byte written to the file, so that the content saved can be identified without reading it back.
+     */
+    void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath, Checksum checksum) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
         // Check and truncate accordingly
         int personCount = addressBook.getPersonList().size();
 
-        if (personCount > MAX_PERSONS_LIMIT) {
+        if (maxPersons > 0 && personCount > maxPersons) {
             // Log warning about truncation
-            int excessCount = personCount - MAX_PERSONS_LIMIT;
+            int excessCount = personCount - maxPersons;
             logger.warning("Address book contains " + personCount + " entries, which exceeds the limit of "
-                    + MAX_PERSONS_LIMIT + ". The last " + excessCount + " entries will be removed.");
-
-            // Create a new AddressBook with only the first MAX_PERSONS_LIMIT entries
-            seedu.address.model.AddressBook truncatedBook = new seedu.address.model.AddressBook();
-            addressBook.getPersonList().stream()
-                    .limit(MAX_PERSONS_LIMIT)
-                    .forEach(truncatedBook::addPerson);
+                    + maxPersons + ". The last " + excessCount + " entries will be removed.");
 
-            FileUtil.createIfMissing(filePath);
-            JsonUtil.saveJsonFile(new JsonSerializableAddressBook(truncatedBook), filePath);
+            // Write only the first maxPersons entries
+            writeFile(addressBook.getPersonList().subList(0, maxPersons), filePath, checksum);
 
-            logger.info("Successfully saved " + MAX_PERSONS_LIMIT + " entries. "
+            logger.info("Successfully saved " + maxPersons + " entries. "
                     + excessCount + " excess entries were deleted.");
         } else {
             // Normal save
-            FileUtil.createIfMissing(filePath);
-            JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+            writeFile(addressBook.getPersonList(), filePath, checksum);
+        }
+    }
+
+    /**
+     * Returns true if an address book of {@code personCount} persons is written in the indented, human-readable form.
+     */
+    boolean isPrettyPrinted(int personCount) {
+        return personCount <= prettyPrintMaxPersons;
+    }
+
+    /**
+     * Replaces the file at {@code filePath} with {@code persons} in a single rename, so that a crash during the save
+     * leaves the previous file intact. The bytes written are passed through {@code checksum} if it is not null.
+     */
+    private void writeFile(List<Person> persons, Path filePath, Checksum checksum) throws IOException {
+        boolean isPrettyPrinted = isPrettyPrinted(persons.size());
+        boolean shouldForce = saveForcer.shouldForce();
+        FileUtil.writeAtomically(filePath, out -> writeAddressBook(persons,
+                checksum == null ? out : new CheckedOutputStream(out, checksum), isPrettyPrinted), shouldForce);
+        saveForcer.written(filePath, shouldForce);
+    }
+
+    /**
+     * Returns true if a save is waiting for a deferred force to the storage device.
+     */
+    boolean hasDeferredForce() {
+        return saveForcer.hasDeferredForce();
+    }
+
+    /**
+     * Writes {@code persons} to {@code out} in the json form read by this class, one person at a time, and closes
+     * {@code out}. Neither the whole json text nor its bytes are ever held in memory.
+     */
+    static void writeAddressBook(List<Person> persons, OutputStream out, boolean isPrettyPrinted)
+            throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted)) {
+            generator.writeStartObject();
+            generator.writeFieldName(PERSONS_FIELD);
+            generator.writeStartArray();
+            for (Person person : persons) {
+                JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
         }
     }
 
@@ -2,18 +2,16 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
-import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Config;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.person.Person;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -24,11 +22,7 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_PERSON = "Duplicate entries found based on PHONE + NAME combination. "
             + "Entries will be automatically cleaned up.";
     public static final String MESSAGE_ENTRY_LIMIT_EXCEEDED = "Entry limit exceeded. "
-            + "Only first 250 entries will be kept.";
-
-    private static final int MAX_PERSONS_LIMIT = 250;
-
-    private static final Logger logger = LogsCenter.getLogger(JsonSerializableAddressBook.class);
+            + "Only first %d entries will be kept.";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -50,136 +44,34 @@ class JsonSerializableAddressBook {
     }
 
     /**
-     * Converts this address book into the model's {@code AddressBook} object.
+     * Converts this address book into the model's {@code AddressBook} object, keeping at most
+     * {@link Config#DEFAULT_MAX_PERSONS} entries.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        int duplicateCount = 0;
-        int invalidCount = 0;
-        int loadedCount = 0;
-        int entryNumber = 0;
-        int skippedDueToLimit = 0;
-        boolean limitExceeded = false;
-
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            entryNumber++;
-            // Check if reached the limit
-            if (loadedCount >= MAX_PERSONS_LIMIT) {
-                skippedDueToLimit = persons.size() - MAX_PERSONS_LIMIT - invalidCount - duplicateCount;
-                limitExceeded = true;
-                break; // Stop processing once we reach the limit
-            }
-
-            try {
-                Person person = jsonAdaptedPerson.toModelType();
-
-                if (hasDuplicatePhoneName(addressBook, person)) {
-                    duplicateCount++;
-                    logger.warning("[Entry " + entryNumber + "] DUPLICATE SKIPPED - Name: '" + person.getName()
-                            + "', Phone: '" + person.getPhone() + "' - Same phone+name combination exists");
-                    continue;
-                }
-
-                addressBook.addPerson(person);
-                loadedCount++;
-
-            } catch (IllegalValueException e) {
-                invalidCount++;
-                String personInfo = extractPersonInfoFromError(e.getMessage());
-                String reason = extractReasonFromError(e.getMessage());
-
-                if (!personInfo.isEmpty()) {
-                    logger.warning("[Entry " + entryNumber + "] INVALID SKIPPED - Person: '" + personInfo
-                            + "' - Reason: " + reason);
-                } else {
-                    logger.warning("[Entry " + entryNumber + "] INVALID SKIPPED - Reason: " + reason);
-                }
-            }
-        }
-
-        // Log warning if limit was exceeded
-        if (limitExceeded) {
-            logger.warning(MESSAGE_ENTRY_LIMIT_EXCEEDED + " Skipped " + skippedDueToLimit + " entries beyond limit.");
-        }
-
-        // Log comprehensive summary
-        StringBuilder summary = new StringBuilder();
-        summary.append("Data loading completed: ");
-        summary.append(loadedCount).append(" entries loaded successfully");
-
-        if (duplicateCount > 0) {
-            summary.append(", ").append(duplicateCount).append(" duplicates skipped");
-        }
-        if (invalidCount > 0) {
-            summary.append(", ").append(invalidCount).append(" invalid entries skipped");
-        }
-        if (skippedDueToLimit > 0) {
-            summary.append(", ").append(skippedDueToLimit).append(" entries skipped due to limit");
-        }
-
-        logger.info(summary.toString());
-
-        if (loadedCount == 0 && persons.size() > 0) {
-            throw new IllegalValueException("No valid persons found in data file. "
-                    + "All entries were skipped due to errors.");
-        }
-
-        return addressBook;
-    }
-
-    /**
-     * Extracts person information from error message for better logging
-     */
-    private String extractPersonInfoFromError(String errorMessage) {
-        if (errorMessage.contains("for person:")) {
-            // Extract the person name from error message like "Invalid phone for person: John Doe"
-            return errorMessage.substring(errorMessage.indexOf("for person:") + "for person:".length()).trim();
-        }
-        return "Unknown";
+        return toModelType(Config.DEFAULT_MAX_PERSONS);
     }
 
     /**
-     * Extracts clean reason from error message
+     * Converts this address book into the model's {@code AddressBook} object.
+     *
+     * @param maxPersons the maximum number of entries to keep, or zero or less to keep every entry.
+     * @throws IllegalValueException if there were any data constraints violated.
      */
-    private String extractReasonFromError(String errorMessage) {
-        if (errorMessage.contains("Missing required field:")) {
-            if (errorMessage.contains("name")) {
-                return "Missing name field";
-            }
-            if (errorMessage.contains("phone")) {
-                return "Missing phone field";
-            }
-            if (errorMessage.contains("address")) {
-                return "Missing address field";
-            }
-            return "Missing required field";
-        }
-        if (errorMessage.contains("Invalid name format")) {
-            return "Invalid name format";
-        }
-        if (errorMessage.contains("Invalid phone format")) {
-            return "Invalid phone number";
-        }
-        if (errorMessage.contains("Invalid address format")) {
-            return "Invalid address format";
-        }
-        if (errorMessage.contains("Invalid email format")) {
-            return "Invalid email format";
+    public AddressBook toModelType(int maxPersons) throws IllegalValueException {
+        JsonAdaptedPersonLoader loader = new JsonAdaptedPersonLoader(maxPersons);
+        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+            loader.load(jsonAdaptedPerson);
         }
-        return errorMessage;
+        return loader.finish();
     }
 
     /**
-     * Checks if the address book already contains a person with the same PHONE + NAME combination.
-     * Other fields (address, email, tags) can be different.
+     * Returns the adapted persons of this address book, in order.
      */
-    private boolean hasDuplicatePhoneName(AddressBook addressBook, Person person) {
-        return addressBook.getPersonList().stream()
-                .anyMatch(existingPerson ->
-                        existingPerson.getPhone().equals(person.getPhone())
-                                && existingPerson.getName().fullName.equalsIgnoreCase(person.getName().fullName));
+    List<JsonAdaptedPerson> getPersons() {
+        return persons;
     }
 
     /**
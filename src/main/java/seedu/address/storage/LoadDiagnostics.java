@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Collects the entries skipped while loading an address book into a single report.
+ * Every skipped entry is counted under its reason, but only the first few are kept as samples, so a data file with
+ * many bad entries costs one report instead of one log line per entry.
+ */
+class LoadDiagnostics {
+
+    public static final int DEFAULT_MAX_SAMPLES = 5;
+    public static final String REASON_DUPLICATE = "Duplicate phone+name combination";
+    public static final String REASON_EXISTING = "Already in the address book";
+
+    private final int maxSamples;
+    private final Map<String, Integer> countsByReason = new LinkedHashMap<>();
+    private final List<String> samples = new ArrayList<>();
+
+    LoadDiagnostics() {
+        this(DEFAULT_MAX_SAMPLES);
+    }
+
+    /**
+     * Creates a {@code LoadDiagnostics} that keeps the first {@code maxSamples} skipped entries as samples.
+     */
+    LoadDiagnostics(int maxSamples) {
+        this.maxSamples = maxSamples;
+    }
+
+    /**
+     * Records that entry {@code entryNumber}, of the person named {@code name}, was skipped because of {@code error}.
+     * {@code name} may be null if the entry has no name.
+     */
+    void recordInvalid(int entryNumber, String name, IllegalValueException error) {
+        String reason = getReason(error);
+        record(reason, "[Entry " + entryNumber + "] " + reason
+                + (name == null ? "" : " - Name: '" + name + "'"));
+    }
+
+    /**
+     * Records that entry {@code entryNumber} was skipped because it duplicates an earlier entry.
+     */
+    void recordDuplicate(int entryNumber, Person person) {
+        recordPerson(REASON_DUPLICATE, entryNumber, person);
+    }
+
+    /**
+     * Records that entry {@code entryNumber} was skipped because its person is already in the address book.
+     */
+    void recordExisting(int entryNumber, Person person) {
+        recordPerson(REASON_EXISTING, entryNumber, person);
+    }
+
+    private void recordPerson(String reason, int entryNumber, Person person) {
+        record(reason, "[Entry " + entryNumber + "] " + reason + " - Name: '" + person.getName()
+                + "', Phone: '" + person.getPhone() + "'");
+    }
+
+    private void record(String reason, String sample) {
+        countsByReason.merge(reason, 1, Integer::sum);
+        if (samples.size() < maxSamples) {
+            samples.add(sample);
+        }
+    }
+
+    /**
+     * Returns the reason an entry with {@code error} is skipped, from the error's code and field.
+     */
+    static String getReason(IllegalValueException error) {
+        switch (error.getErrorCode()) {
+        case MISSING_FIELD:
+            return "Missing " + error.getField().orElse("required") + " field";
+        case INVALID_FIELD:
+            return "Invalid " + error.getField().orElse("field");
+        case OTHER:
+        default:
+            return error.getMessage();
+        }
+    }
+
+    /**
+     * Returns true if no entry was skipped.
+     */
+    boolean isEmpty() {
+        return countsByReason.isEmpty();
+    }
+
+    /**
+     * Returns the number of entries skipped for {@code reason}.
+     */
+    int getCount(String reason) {
+        return countsByReason.getOrDefault(reason, 0);
+    }
+
+    /**
+     * Returns the number of skipped entries over all reasons.
+     */
+    int getTotalCount() {
+        return countsByReason.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Returns the number of skipped entries per reason, in the order the reasons first occurred.
+     */
+    Map<String, Integer> getCountsByReason() {
+        return Collections.unmodifiableMap(countsByReason);
+    }
+
+    /**
+     * Returns the samples of the first skipped entries.
+     */
+    List<String> getSamples() {
+        return Collections.unmodifiableList(samples);
+    }
+
+    /**
+     * Returns a report of the skipped entries: their counts per reason, then the samples.
+     */
+    String toReport() {
+        StringBuilder report = new StringBuilder("Skipped entries:");
+        countsByReason.forEach((reason, count) -> report.append("\n  ").append(reason).append(": ").append(count));
+
+        report.append("\nFirst ").append(samples.size()).append(" of ").append(getTotalCount()).append(':');
+        samples.forEach(sample -> report.append("\n  ").append(sample));
+        return report.toString();
+    }
+}
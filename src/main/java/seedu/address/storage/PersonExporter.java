@@ -0,0 +1,143 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import seedu.address.commons.util.CsvWriter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes persons to a file that other programs can read, one person at a time.
+ *
+ * A CSV file has the columns read by {@link CsvPersonImporter}, so it can be imported again. A JSON Lines file holds
+ * one person per line, in the same form as an entry of the json data file. The file is written atomically, so an
+ * export that fails leaves any earlier file at the same path as it was.
+ */
+public class PersonExporter {
+
+    /**
+     * The formats persons can be exported in.
+     */
+    public enum Format {
+        CSV(".csv"),
+        JSON_LINES(".jsonl");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * Returns the format of the file at {@code filePath}, from its extension.
+         */
+        public static Optional<Format> fromFileName(Path filePath) {
+            String fileName = filePath.getFileName() == null
+                    ? ""
+                    : filePath.getFileName().toString().toLowerCase(Locale.ROOT);
+            for (Format format : values()) {
+                if (fileName.endsWith(format.extension)) {
+                    return Optional.of(format);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    public static final int PROGRESS_STEPS = 10;
+
+    /**
+     * Writes {@code persons} to the file at {@code filePath} in {@code format}.
+     * {@code progressListener} is given the number of persons written so far about {@link #PROGRESS_STEPS} times
+     * during the export, and once more when all of them are written.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    public static void export(List<Person> persons, Path filePath, Format format, IntConsumer progressListener)
+            throws IOException {
+        requireAllNonNull(persons, filePath, format, progressListener);
+
+        FileUtil.writeAtomically(filePath, out -> {
+            switch (format) {
+            case CSV:
+                writeCsv(persons, out, progressListener);
+                break;
+            case JSON_LINES:
+            default:
+                writeJsonLines(persons, out, progressListener);
+                break;
+            }
+        }, false);
+    }
+
+    private static void writeCsv(List<Person> persons, OutputStream out, IntConsumer progressListener)
+            throws IOException {
+        CsvWriter writer = new CsvWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+        writer.writeRecord(CsvPersonImporter.COLUMNS.toArray(new String[0]));
+
+        int progressStep = getProgressStep(persons.size());
+        int count = 0;
+        for (Person person : persons) {
+            writer.writeRecord(person.getName().fullName, person.getPhone().value, person.getEmail().value,
+                    person.getAddress().value, person.getRemark().value, person.getTags().stream()
+                            .map(tag -> tag.tagName)
+                            .sorted()
+                            .collect(Collectors.joining(CsvPersonImporter.TAG_SEPARATOR)));
+            if (++count % progressStep == 0) {
+                progressListener.accept(count);
+            }
+        }
+        writer.flush();
+        reportDone(count, progressStep, progressListener);
+    }
+
+    private static void writeJsonLines(List<Person> persons, OutputStream out, IntConsumer progressListener)
+            throws IOException {
+        JsonGenerator generator = JsonUtil.createGenerator(out, false);
+        generator.setRootValueSeparator(new SerializedString("\n"));
+
+        int progressStep = getProgressStep(persons.size());
+        int count = 0;
+        for (Person person : persons) {
+            JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+            if (++count % progressStep == 0) {
+                progressListener.accept(count);
+            }
+        }
+        if (count > 0) {
+            generator.writeRaw('\n');
+        }
+        generator.close();
+        reportDone(count, progressStep, progressListener);
+    }
+
+    private static int getProgressStep(int personCount) {
+        return Math.max(1, (personCount + PROGRESS_STEPS - 1) / PROGRESS_STEPS);
+    }
+
+    private static void reportDone(int count, int progressStep, IntConsumer progressListener) {
+        if (count % progressStep != 0 || count == 0) {
+            progressListener.accept(count);
+        }
+    }
+}
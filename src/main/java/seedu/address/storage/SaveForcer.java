@@ -0,0 +1,119 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config.DurabilityPolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Decides which writes of a storage are forced to the storage device under a {@code DurabilityPolicy}.
+ *
+ * Under {@code BATCHED}, a write within a second of the last force is not forced right away. Its file is forced on a
+ * background thread once the second is over instead, so that no write stays unforced for longer than that.
+ */
+class SaveForcer {
+
+    private static final Logger logger = LogsCenter.getLogger(SaveForcer.class);
+    private static final long BATCHED_FORCE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final DurabilityPolicy durabilityPolicy;
+
+    // Guarded by this
+    private long lastForcedNanos;
+    private boolean hasForced;
+    private final Set<Path> unforcedFilePaths = new HashSet<>();
+    private ScheduledExecutorService forceExecutor;
+    private ScheduledFuture<?> deferredForce;
+
+    SaveForcer(DurabilityPolicy durabilityPolicy) {
+        requireNonNull(durabilityPolicy);
+        this.durabilityPolicy = durabilityPolicy;
+    }
+
+    /**
+     * Returns true if the next write must be forced to the storage device before it returns.
+     */
+    synchronized boolean shouldForce() {
+        switch (durabilityPolicy) {
+        case ALWAYS:
+            return true;
+        case BATCHED:
+            long now = System.nanoTime();
+            if (hasForced && now - lastForcedNanos < BATCHED_FORCE_INTERVAL_NANOS) {
+                return false;
+            }
+            hasForced = true;
+            lastForcedNanos = now;
+            return true;
+        case NONE:
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Records that the file at {@code filePath} was written, and forced if {@code isForced} is true.
+     * Must be called once the write is complete, so that a deferred force sees the written file.
+     */
+    void written(Path filePath, boolean isForced) {
+        if (!isForced && durabilityPolicy == DurabilityPolicy.BATCHED) {
+            deferForce(filePath);
+        }
+    }
+
+    /**
+     * Returns true if a write is waiting for a deferred force to the storage device.
+     */
+    synchronized boolean hasDeferredForce() {
+        return deferredForce != null;
+    }
+
+    private synchronized void deferForce(Path filePath) {
+        unforcedFilePaths.add(filePath);
+        if (deferredForce != null) {
+            return;
+        }
+
+        if (forceExecutor == null) {
+            forceExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "address-book-force");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        long delayNanos = Math.max(lastForcedNanos + BATCHED_FORCE_INTERVAL_NANOS - System.nanoTime(), 0);
+        deferredForce = forceExecutor.schedule(this::forceUnforcedFiles, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void forceUnforcedFiles() {
+        List<Path> filePaths;
+        synchronized (this) {
+            // Cleared before forcing, so that a write finishing meanwhile defers a force of its own
+            filePaths = new ArrayList<>(unforcedFilePaths);
+            unforcedFilePaths.clear();
+            deferredForce = null;
+            hasForced = true;
+            lastForcedNanos = System.nanoTime();
+        }
+        for (Path filePath : filePaths) {
+            try {
+                FileUtil.force(filePath);
+            } catch (IOException e) {
+                logger.warning("Failed to force " + filePath + " to the storage device: " + e);
+            }
+        }
+    }
+}
@@ -0,0 +1,399 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a series of json lines segment files on the hard disk.
+ * The segments of the address book at {@code data/addressbook.json} are kept in {@code data/addressbook.segments/},
+ * together with a manifest that lists them in order.
+ *
+ * Only segments whose persons changed since the last read or save are written again, so the cost of a save grows with
+ * the size of the change rather than the size of the address book. New segments are always written under fresh file
+ * names and the manifest is replaced last, so an interrupted save leaves the previous data intact.
+ *
+ * Segments are read line by line, and each person is handed to the loader as soon as it is parsed, so only one entry
+ * is held in its json form at any time.
+ *
+ * If there is no manifest yet, the address book is read from the json file at the given path instead. It is then
+ * migrated to segments on the next save.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 1000;
+    public static final String MANIFEST_FILE_NAME = "manifest";
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+    private static final String MANIFEST_HEADER = "elderring-segments 1";
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".jsonl";
+
+    private final Path filePath;
+    private final int maxPersons;
+    private final int segmentSize;
+
+    // Layout of savedDirectory as last read or saved, holding the very Person objects stored in each segment
+    private Path savedDirectory;
+    private List<Segment> savedSegments = new ArrayList<>();
+    private long nextSegmentId;
+
+    public SegmentedAddressBookStorage(Path filePath) {
+        this(filePath, Config.DEFAULT_MAX_PERSONS);
+    }
+
+    public SegmentedAddressBookStorage(Path filePath, int maxPersons) {
+        this(filePath, maxPersons, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a {@code SegmentedAddressBookStorage} that keeps at most {@code maxPersons} entries, or every entry if
+     * {@code maxPersons} is zero or less, and stores up to {@code segmentSize} persons in each segment.
+     */
+    public SegmentedAddressBookStorage(Path filePath, int maxPersons, int segmentSize) {
+        requireNonNull(filePath);
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("Segment size must be positive");
+        }
+        this.filePath = filePath;
+        this.maxPersons = maxPersons;
+        this.segmentSize = segmentSize;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the directory holding the segments of the address book at {@code filePath}.
+     */
+    public static Path getSegmentDirectory(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + ".segments");
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path directory = getSegmentDirectory(filePath);
+        Path manifest = directory.resolve(MANIFEST_FILE_NAME);
+        if (!Files.exists(manifest)) {
+            logger.info("No segment manifest found at " + manifest + ". Reading " + filePath + " instead.");
+            return new JsonAddressBookStorage(filePath, maxPersons).readAddressBook(filePath);
+        }
+
+        try {
+            List<String> segmentFileNames = readManifest(manifest);
+            JsonAdaptedPersonLoader loader = new JsonAdaptedPersonLoader(maxPersons);
+            List<Integer> segmentCounts = new ArrayList<>();
+            for (String segmentFileName : segmentFileNames) {
+                segmentCounts.add(readSegment(directory.resolve(segmentFileName), loader));
+            }
+
+            AddressBook addressBook = loader.finish();
+            rememberLayout(directory, segmentFileNames, segmentCounts, addressBook.getPersonList());
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading segments in " + directory + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directory + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Path directory = getSegmentDirectory(filePath);
+        if (!directory.equals(savedDirectory)) {
+            // Nothing is known about the segments there, so every segment is written afresh
+            savedDirectory = directory;
+            savedSegments = new ArrayList<>();
+            nextSegmentId = findNextSegmentId(directory);
+        }
+        Files.createDirectories(directory);
+
+        List<Person> persons = addressBook.getPersonList();
+        if (maxPersons > 0 && persons.size() > maxPersons) {
+            logger.warning("Address book contains " + persons.size() + " entries, which exceeds the limit of "
+                    + maxPersons + ". The last " + (persons.size() - maxPersons) + " entries will be removed.");
+            persons = persons.subList(0, maxPersons);
+        }
+
+        List<Segment> segments = writeChangedSegments(directory, persons);
+        writeManifest(directory, segments);
+        savedSegments = segments;
+        deleteUnlistedSegments(directory, segments);
+    }
+
+    /**
+     * Returns the segments holding {@code persons} in order, reusing every saved segment that still holds the same run
+     * of persons and writing new segments for the rest.
+     */
+    private List<Segment> writeChangedSegments(Path directory, List<Person> persons) throws IOException {
+        Map<Person, Segment> savedSegmentsByFirstPerson = new IdentityHashMap<>();
+        for (Segment segment : savedSegments) {
+            savedSegmentsByFirstPerson.put(segment.persons.get(0), segment);
+        }
+
+        List<Segment> segments = new ArrayList<>();
+        List<Person> pendingPersons = new ArrayList<>();
+        int index = 0;
+        while (index < persons.size()) {
+            Segment savedSegment = savedSegmentsByFirstPerson.get(persons.get(index));
+            if (savedSegment != null && savedSegment.isHeldAt(persons, index)) {
+                flushPendingPersons(directory, pendingPersons, segments);
+                segments.add(savedSegment);
+                index += savedSegment.persons.size();
+                continue;
+            }
+
+            pendingPersons.add(persons.get(index));
+            index++;
+            if (pendingPersons.size() == segmentSize) {
+                flushPendingPersons(directory, pendingPersons, segments);
+            }
+        }
+        flushPendingPersons(directory, pendingPersons, segments);
+        return segments;
+    }
+
+    /**
+     * Writes {@code pendingPersons} as a new segment at the end of {@code segments}.
+     * If they fit, they are merged with the last segment so that repeated small changes do not fragment the data.
+     */
+    private void flushPendingPersons(Path directory, List<Person> pendingPersons, List<Segment> segments)
+            throws IOException {
+        if (pendingPersons.isEmpty()) {
+            return;
+        }
+
+        int lastIndex = segments.size() - 1;
+        if (lastIndex >= 0 && segments.get(lastIndex).persons.size() + pendingPersons.size() <= segmentSize) {
+            List<Person> mergedPersons = new ArrayList<>(segments.get(lastIndex).persons);
+            mergedPersons.addAll(pendingPersons);
+            segments.set(lastIndex, writeSegment(directory, mergedPersons));
+        } else {
+            segments.add(writeSegment(directory, new ArrayList<>(pendingPersons)));
+        }
+        pendingPersons.clear();
+    }
+
+    private Segment writeSegment(Path directory, List<Person> persons) throws IOException {
+        String fileName = SEGMENT_PREFIX + String.format("%08d", nextSegmentId++) + SEGMENT_SUFFIX;
+        try (BufferedWriter writer = Files.newBufferedWriter(directory.resolve(fileName), StandardCharsets.UTF_8)) {
+            for (Person person : persons) {
+                writer.write(JsonUtil.toCompactJsonString(new JsonAdaptedPerson(person)));
+                writer.newLine();
+            }
+        }
+        return new Segment(fileName, persons);
+    }
+
+    private void writeManifest(Path directory, List<Segment> segments) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(MANIFEST_HEADER);
+        segments.forEach(segment -> lines.add(segment.fileName));
+
+        Path manifest = directory.resolve(MANIFEST_FILE_NAME);
+        Path tempManifest = directory.resolve(MANIFEST_FILE_NAME + ".tmp");
+        Files.write(tempManifest, lines, StandardCharsets.UTF_8);
+        try {
+            Files.move(tempManifest, manifest, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempManifest, manifest, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static List<String> readManifest(Path manifest) throws IOException {
+        List<String> lines = Files.readAllLines(manifest, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.get(0).equals(MANIFEST_HEADER)) {
+            throw new IOException("Unrecognised segment manifest " + manifest);
+        }
+
+        List<String> segmentFileNames = new ArrayList<>();
+        for (String line : lines.subList(1, lines.size())) {
+            if (!line.isBlank()) {
+                segmentFileNames.add(line.trim());
+            }
+        }
+        return segmentFileNames;
+    }
+
+    /**
+     * Feeds each person of {@code segment} to {@code loader} as soon as its line is parsed.
+     * Persons beyond the entry limit are counted but not parsed.
+     *
+     * @return the number of entries in the segment.
+     */
+    private static int readSegment(Path segment, JsonAdaptedPersonLoader loader) throws IOException {
+        int entryCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                entryCount++;
+                if (loader.isFull()) {
+                    loader.skip();
+                } else {
+                    loader.load(JsonUtil.fromJsonString(line, JsonAdaptedPerson.class));
+                }
+            }
+        }
+        return entryCount;
+    }
+
+    /**
+     * Records which of the loaded {@code persons} came from which segment, so that unchanged segments are not written
+     * again on the next save. Nothing is recorded if entries were dropped while loading, since the segments then no
+     * longer match the persons and must all be rewritten.
+     */
+    private void rememberLayout(Path directory, List<String> segmentFileNames, List<Integer> segmentCounts,
+            List<Person> persons) throws IOException {
+        savedDirectory = directory;
+        savedSegments = new ArrayList<>();
+        nextSegmentId = findNextSegmentId(directory);
+
+        int totalCount = segmentCounts.stream().mapToInt(Integer::intValue).sum();
+        if (totalCount != persons.size()) {
+            return;
+        }
+
+        int start = 0;
+        for (int i = 0; i < segmentFileNames.size(); i++) {
+            int count = segmentCounts.get(i);
+            if (count > 0) {
+                savedSegments.add(new Segment(segmentFileNames.get(i),
+                        new ArrayList<>(persons.subList(start, start + count))));
+            }
+            start += count;
+        }
+    }
+
+    private static long findNextSegmentId(Path directory) throws IOException {
+        long nextId = 0;
+        for (Path segment : listSegmentFiles(directory)) {
+            String fileName = segment.getFileName().toString();
+            String id = fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length());
+            try {
+                nextId = Math.max(nextId, Long.parseLong(id) + 1);
+            } catch (NumberFormatException e) {
+                // Not one of our segments, leave it alone
+            }
+        }
+        return nextId;
+    }
+
+    private static void deleteUnlistedSegments(Path directory, List<Segment> segments) {
+        Set<String> listedFileNames = new HashSet<>();
+        segments.forEach(segment -> listedFileNames.add(segment.fileName));
+
+        try {
+            for (Path segment : listSegmentFiles(directory)) {
+                if (!listedFileNames.contains(segment.getFileName().toString())) {
+                    Files.deleteIfExists(segment);
+                }
+            }
+        } catch (IOException e) {
+            // The data is already safely saved, the stale segments are removed on a later save
+            logger.warning("Failed to delete stale segments in " + directory + ": " + e);
+        }
+    }
+
+    private static List<Path> listSegmentFiles(Path directory) throws IOException {
+        List<Path> segmentFiles = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return segmentFiles;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(segmentFiles::add);
+        }
+        return segmentFiles;
+    }
+
+    /**
+     * A segment file together with the persons it holds, in order.
+     */
+    private static class Segment {
+        private final String fileName;
+        private final List<Person> persons;
+
+        Segment(String fileName, List<Person> persons) {
+            assert !persons.isEmpty();
+            this.fileName = fileName;
+            this.persons = persons;
+        }
+
+        /**
+         * Returns true if {@code persons} holds exactly the persons of this segment, starting at {@code start}.
+         * Persons are compared by reference, since an edited person is always a new object.
+         */
+        boolean isHeldAt(List<Person> persons, int start) {
+            if (start + this.persons.size() > persons.size()) {
+                return false;
+            }
+            for (int i = 0; i < this.persons.size(); i++) {
+                if (persons.get(start + i) != this.persons.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Wraps a {@code JsonAddressBookStorage} with a binary cache of the address book last read from or written to its file.
+ * The cache of the data file at {@code data/addressbook.json} is {@code data/addressbook.cache}.
+ *
+ * The cache is keyed by the size, modification time and CRC32 of the data file. The CRC32 of a save is computed from
+ * the bytes as they are written, so saving never reads the data file back. While the key matches, the address
+ * book is decoded from the cache instead of being parsed as json. The cache only ever holds an already cleaned
+ * address book, so its persons are added directly, without the duplicate search and entry reporting of a normal load.
+ * The fields of each person are still checked by the model's constructors.
+ * Any mismatch or damage of the cache falls back to reading the data file, which then rebuilds the cache.
+ *
+ * The cache is only a copy, so failing to write it never fails a save.
+ */
+public class WarmStartAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(WarmStartAddressBookStorage.class);
+    private static final int MAGIC = 0x45525743;
+    private static final int HEADER_SIZE = Integer.BYTES + 3 * Long.BYTES;
+    private static final int HASH_BUFFER_SIZE = 1 << 16;
+
+    private final JsonAddressBookStorage delegate;
+    private final int maxPersons;
+
+    /**
+     * Creates a {@code WarmStartAddressBookStorage} that caches the address books of {@code delegate}, which keeps
+     * at most {@code maxPersons} entries when saving. A {@code maxPersons} of zero or less means that every entry
+     * is kept.
+     */
+    public WarmStartAddressBookStorage(JsonAddressBookStorage delegate, int maxPersons) {
+        requireNonNull(delegate);
+        this.delegate = delegate;
+        this.maxPersons = maxPersons;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return delegate.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the cache file of the data file at {@code filePath}.
+     */
+    public static Path getCachePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + ".cache");
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return delegate.readAddressBook(filePath);
+        }
+
+        Path cachePath = getCachePath(filePath);
+        if (Files.exists(cachePath)) {
+            try {
+                Optional<AddressBook> cached = readCache(cachePath, CacheKey.of(filePath));
+                if (cached.isPresent()) {
+                    logger.info("Loaded " + cached.get().getPersonList().size() + " persons from cache " + cachePath);
+                    return Optional.of(cached.get());
+                }
+                logger.info("Cache " + cachePath + " is out of date. Reading " + filePath + " instead.");
+            } catch (IOException | IllegalValueException | DuplicatePersonException e) {
+                logger.warning("Ignoring unreadable cache " + cachePath + ": " + e);
+            }
+        }
+
+        Optional<ReadOnlyAddressBook> addressBook = delegate.readAddressBook(filePath);
+        if (addressBook.isPresent()) {
+            try {
+                writeCache(addressBook.get().getPersonList(), filePath, CacheKey.of(filePath));
+            } catch (IOException e) {
+                logger.warning("Failed to write cache " + getCachePath(filePath) + ": " + e);
+            }
+        }
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        CRC32 crc = new CRC32();
+        delegate.saveAddressBook(addressBook, filePath, crc);
+
+        List<Person> persons = addressBook.getPersonList();
+        if (maxPersons > 0 && persons.size() > maxPersons) {
+            persons = persons.subList(0, maxPersons);
+        }
+        try {
+            writeCache(persons, filePath, CacheKey.of(filePath, crc.getValue()));
+        } catch (IOException e) {
+            logger.warning("Failed to write cache " + getCachePath(filePath) + ": " + e);
+        }
+    }
+
+    /**
+     * Returns true if the cache of the data file at {@code filePath} matches the data file.
+     */
+    static boolean isCacheValid(Path filePath) throws IOException {
+        Path cachePath = getCachePath(filePath);
+        if (!Files.exists(filePath) || !Files.exists(cachePath)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(cachePath))) {
+            byte[] header = new byte[HEADER_SIZE];
+            in.readFully(header);
+            return CacheKey.of(filePath).matches(ByteBuffer.wrap(header));
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the address book in the cache at {@code cachePath}, or an empty {@code Optional} if the cache was
+     * written for a data file other than the one of {@code key}.
+     */
+    private static Optional<AddressBook> readCache(Path cachePath, CacheKey key) throws IOException,
+            IllegalValueException {
+        try {
+            // Read rather than mapped, as an open mapping would keep the cache from being replaced on Windows
+            ByteBuffer buffer = BinaryAddressBookStorage.readFile(cachePath);
+            if (!key.matches(buffer)) {
+                return Optional.empty();
+            }
+
+            JsonSerializableAddressBook cached = BinaryAddressBookStorage.toJsonSerializable(buffer.slice());
+            AddressBook addressBook = new AddressBook();
+            for (JsonAdaptedPerson person : cached.getPersons()) {
+                addressBook.addPerson(person.toModelType());
+            }
+            return Optional.of(addressBook);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Cache is truncated", e);
+        }
+    }
+
+    /**
+     * Caches {@code persons} as the address book of the data file at {@code filePath}, whose content is identified
+     * by {@code key}.
+     */
+    private static void writeCache(List<Person> persons, Path filePath, CacheKey key) throws IOException {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>(persons.size());
+        persons.forEach(person -> adaptedPersons.add(new JsonAdaptedPerson(person)));
+        JsonSerializableAddressBook addressBook = new JsonSerializableAddressBook(adaptedPersons);
+        FileUtil.writeAtomically(getCachePath(filePath), out -> {
+            DataOutputStream data = new DataOutputStream(out);
+            data.writeInt(MAGIC);
+            data.writeLong(key.size);
+            data.writeLong(key.modifiedMillis);
+            data.writeLong(key.hash);
+            data.flush();
+            BinaryAddressBookStorage.fromJsonSerializable(addressBook, out);
+        }, false);
+    }
+
+    /**
+     * Identifies the content of a data file.
+     */
+    private static class CacheKey {
+        private final long size;
+        private final long modifiedMillis;
+        private final long hash;
+
+        private CacheKey(long size, long modifiedMillis, long hash) {
+            this.size = size;
+            this.modifiedMillis = modifiedMillis;
+            this.hash = hash;
+        }
+
+        /**
+         * Returns the key of the data file at {@code filePath}, whose content has the CRC32 {@code hash}.
+         */
+        static CacheKey of(Path filePath, long hash) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            return new CacheKey(attributes.size(), attributes.lastModifiedTime().toMillis(), hash);
+        }
+
+        /**
+         * Returns the key of the data file at {@code filePath}, reading the whole file to compute its CRC32.
+         */
+        static CacheKey of(Path filePath) throws IOException {
+            long modifiedMillis = Files.getLastModifiedTime(filePath).toMillis();
+            CRC32 crc = new CRC32();
+            long size = 0;
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(HASH_BUFFER_SIZE);
+                while (channel.read(buffer) >= 0) {
+                    buffer.flip();
+                    size += buffer.remaining();
+                    crc.update(buffer);
+                    buffer.clear();
+                }
+            }
+            return new CacheKey(size, modifiedMillis, crc.getValue());
+        }
+
+        /**
+         * Returns true if the cache header at the position of {@code header} was written for this key.
+         * The position of {@code header} is moved past the header.
+         */
+        boolean matches(ByteBuffer header) {
+            return header.getInt() == MAGIC
+                    && header.getLong() == size
+                    && header.getLong() == modifiedMillis
+                    && header.getLong() == hash;
+        }
+    }
+}
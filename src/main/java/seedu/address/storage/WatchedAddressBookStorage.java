@@ -0,0 +1,265 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Wraps an {@code AddressBookStorage} to notice when its data file is changed by another program.
+ *
+ * The state of the data file is remembered after every read and save through this storage. Once watching is started,
+ * every change the file system reports for the data file is compared with that state, so the application's own saves
+ * are ignored, and any other change is read through the wrapped storage and handed to the change handler. A change
+ * handed over is out of date once the application saves again, which {@link #isSavedSinceOutsideChange()} tells.
+ */
+public class WatchedAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_SETTLE_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(WatchedAddressBookStorage.class);
+
+    private final AddressBookStorage delegate;
+    private final long settleMillis;
+    // Held while the data file is written or compared, so that a save is never mistaken for an outside change
+    private final Object fileLock = new Object();
+
+    private FileState knownState;
+    private boolean isSavedSinceOutsideChange;
+    private WatchService watchService;
+
+    public WatchedAddressBookStorage(AddressBookStorage delegate) {
+        this(delegate, DEFAULT_SETTLE_MILLIS);
+    }
+
+    /**
+     * Creates a {@code WatchedAddressBookStorage} that waits {@code settleMillis} after a reported change before
+     * reading the data file, so that a program writing it in several steps is read once it is done.
+     */
+    public WatchedAddressBookStorage(AddressBookStorage delegate, long settleMillis) {
+        requireNonNull(delegate);
+        this.delegate = delegate;
+        this.settleMillis = Math.max(settleMillis, 0);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return delegate.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        synchronized (fileLock) {
+            Optional<ReadOnlyAddressBook> addressBook = delegate.readAddressBook(filePath);
+            rememberState(filePath);
+            return addressBook;
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        synchronized (fileLock) {
+            delegate.saveAddressBook(addressBook, filePath);
+            rememberState(filePath);
+            if (filePath.equals(getAddressBookFilePath())) {
+                isSavedSinceOutsideChange = true;
+            }
+        }
+    }
+
+    /**
+     * Returns true if the address book was saved through this storage after the last outside change was read,
+     * in which case the file no longer holds the address book handed to the change handler.
+     */
+    public boolean isSavedSinceOutsideChange() {
+        synchronized (fileLock) {
+            return isSavedSinceOutsideChange;
+        }
+    }
+
+    /**
+     * Starts watching the data file on a background thread, calling {@code changeHandler} on that thread with the
+     * address book read after each outside change.
+     *
+     * @throws IOException if the directory of the data file cannot be watched.
+     */
+    public void startWatching(Consumer<ReadOnlyAddressBook> changeHandler) throws IOException {
+        requireNonNull(changeHandler);
+        if (watchService != null) {
+            throw new IllegalStateException("Already watching " + getAddressBookFilePath());
+        }
+
+        Path filePath = getAddressBookFilePath().toAbsolutePath();
+        Path directory = filePath.getParent();
+        watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+
+        Thread thread = new Thread(() -> watch(watchService, filePath, changeHandler), "address-book-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("Watching " + filePath + " for outside changes");
+    }
+
+    /**
+     * Stops watching the data file.
+     */
+    public void stopWatching() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warning("Failed to stop watching the data file: " + StringUtil.getDetails(e));
+        }
+        watchService = null;
+    }
+
+    private void watch(WatchService service, Path filePath, Consumer<ReadOnlyAddressBook> changeHandler) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean isDataFileChanged = hasChanged(key, filePath);
+                if (!key.reset()) {
+                    logger.warning("Stopped watching " + filePath + " as its directory is no longer accessible");
+                    return;
+                }
+                if (!isDataFileChanged) {
+                    continue;
+                }
+
+                // Let the writer finish, then fold the changes it reported meanwhile into this one
+                Thread.sleep(settleMillis);
+                WatchKey pendingKey;
+                while ((pendingKey = service.poll()) != null) {
+                    pendingKey.pollEvents();
+                    pendingKey.reset();
+                }
+                checkForOutsideChange(changeHandler);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Watching was stopped
+        }
+    }
+
+    private static boolean hasChanged(WatchKey key, Path filePath) {
+        boolean hasChanged = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW || filePath.getFileName().equals(event.context())) {
+                hasChanged = true;
+            }
+        }
+        return hasChanged;
+    }
+
+    /**
+     * Reads the data file and hands it to {@code changeHandler} if it was changed since the last read or save through
+     * this storage.
+     *
+     * @return true if an outside change was found.
+     */
+    boolean checkForOutsideChange(Consumer<ReadOnlyAddressBook> changeHandler) {
+        Path filePath = getAddressBookFilePath();
+        Optional<ReadOnlyAddressBook> addressBook;
+        synchronized (fileLock) {
+            FileState state = FileState.of(filePath);
+            if (state == null || state.equals(knownState)) {
+                return false;
+            }
+
+            logger.info("Data file " + filePath + " was changed outside the application. Reloading it.");
+            knownState = state;
+            isSavedSinceOutsideChange = false;
+            try {
+                addressBook = delegate.readAddressBook(filePath);
+            } catch (DataLoadingException e) {
+                logger.warning("Ignoring the outside change to " + filePath + " as it could not be loaded: "
+                        + StringUtil.getDetails(e));
+                return false;
+            }
+        }
+
+        addressBook.ifPresent(changeHandler);
+        return addressBook.isPresent();
+    }
+
+    private void rememberState(Path filePath) {
+        if (filePath.equals(getAddressBookFilePath())) {
+            knownState = FileState.of(filePath);
+        }
+    }
+
+    /**
+     * The size, modification time and identity of a file, which change whenever the file is written.
+     */
+    private static class FileState {
+        private final long size;
+        private final long modifiedNanos;
+        private final Object fileKey;
+
+        private FileState(BasicFileAttributes attributes) {
+            size = attributes.size();
+            modifiedNanos = attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+            fileKey = attributes.fileKey();
+        }
+
+        /**
+         * Returns the state of the file at {@code filePath}, or null if it cannot be read.
+         */
+        static FileState of(Path filePath) {
+            try {
+                return new FileState(Files.readAttributes(filePath, BasicFileAttributes.class));
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof FileState)) {
+                return false;
+            }
+            FileState otherState = (FileState) other;
+            return size == otherState.size
+                    && modifiedNanos == otherState.modifiedNanos
+                    && Objects.equals(fileKey, otherState.fileKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(size, modifiedNanos, fileKey);
+        }
+    }
+}
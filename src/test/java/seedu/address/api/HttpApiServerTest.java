@@ -0,0 +1,224 @@
+package seedu.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class HttpApiServerTest {
+
+    private static final String TOKEN = "test-token";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model;
+    private HttpApiServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        LogicManager logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        server = new HttpApiServer(logic, Runnable::run, 0, TOKEN);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void getPersons_noQuery_allPersonsReturned() throws Exception {
+        assertEquals(getTypicalAddressBook().getPersonList().size(), getNames("").size());
+    }
+
+    @Test
+    public void getPersons_nameAndTag_matchingPersonsReturned() throws Exception {
+        assertEquals(List.of("Benson Meier", "Daniel Meier"), getNames("?name=meier&tag=friends"));
+    }
+
+    @Test
+    public void getPersons_phone_matchingPersonReturned() throws Exception {
+        assertEquals(List.of("Carl Kurz"), getNames("?phone=95352563"));
+    }
+
+    @Test
+    public void getPersons_unknownParameter_badRequest() throws Exception {
+        HttpURLConnection connection = open(HttpApiServer.PERSONS_PATH + "?age=80", "GET");
+        assertEquals(400, connection.getResponseCode());
+        assertEquals(String.format(HttpApiServer.MESSAGE_UNKNOWN_PARAMETER, "age"),
+                readJson(connection.getErrorStream(), Map.class).get("error"));
+    }
+
+    @Test
+    public void getPersons_wrongMethod_methodNotAllowed() throws Exception {
+        assertEquals(405, open(HttpApiServer.PERSONS_PATH, "DELETE").getResponseCode());
+    }
+
+    @Test
+    public void postCommand_validCommand_commandRun() throws Exception {
+        HttpURLConnection connection = post("tag i/1 t/visited");
+
+        assertEquals(200, connection.getResponseCode());
+        assertTrue(readJson(connection.getInputStream(), Map.class).get("feedback").toString()
+                .startsWith("Tagged Senior"));
+        assertTrue(model.getSnapshot().getPersons().get(0).getTags().contains(new Tag("visited")));
+    }
+
+    @Test
+    public void postCommand_unknownCommand_badRequest() throws Exception {
+        HttpURLConnection connection = post("uicfhmowqewca");
+
+        assertEquals(400, connection.getResponseCode());
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, readJson(connection.getErrorStream(), Map.class).get("error"));
+    }
+
+    @Test
+    public void request_noToken_unauthorized() throws Exception {
+        HttpURLConnection connection = (HttpURLConnection)
+                new URL("http://127.0.0.1:" + server.getPort() + HttpApiServer.PERSONS_PATH).openConnection();
+        assertEquals(401, connection.getResponseCode());
+        assertEquals(HttpApiServer.MESSAGE_UNAUTHORIZED, readJson(connection.getErrorStream(), Map.class).get("error"));
+    }
+
+    @Test
+    public void request_wrongToken_unauthorized() throws Exception {
+        HttpURLConnection connection = open(HttpApiServer.COMMANDS_PATH, "POST");
+        connection.setRequestProperty(HttpApiServer.TOKEN_HEADER, "wrong-token");
+        connection.setDoOutput(true);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write("clear".getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertEquals(401, connection.getResponseCode());
+        assertEquals(getTypicalAddressBook().getPersonList().size(), model.getSnapshot().getPersons().size());
+    }
+
+    @Test
+    public void request_withOrigin_forbidden() throws Exception {
+        assertEquals(403, sendRaw("POST", "127.0.0.1:" + server.getPort(), "Origin: http://example.com"));
+        assertEquals(getTypicalAddressBook().getPersonList().size(), model.getSnapshot().getPersons().size());
+    }
+
+    @Test
+    public void request_nonLoopbackHost_forbidden() throws Exception {
+        assertEquals(403, sendRaw("GET", "attacker.example:" + server.getPort(), null));
+    }
+
+    @Test
+    public void request_loopbackHostWithToken_allowed() throws Exception {
+        assertEquals(200, sendRaw("GET", "localhost:" + server.getPort(), null));
+    }
+
+    @Test
+    public void isLoopbackHost() {
+        assertTrue(HttpApiServer.isLoopbackHost("localhost"));
+        assertTrue(HttpApiServer.isLoopbackHost("127.0.0.1:8080"));
+        assertTrue(HttpApiServer.isLoopbackHost("[::1]:8080"));
+        assertFalse(HttpApiServer.isLoopbackHost(null));
+        assertFalse(HttpApiServer.isLoopbackHost("localhost.attacker.example"));
+        assertFalse(HttpApiServer.isLoopbackHost("127.0.0.2:8080"));
+    }
+
+    @Test
+    public void writeTokenFile_existingFile_replaced() throws Exception {
+        Path tokenFile = temporaryFolder.resolve(HttpApiServer.TOKEN_FILE_NAME);
+        HttpApiServer.writeTokenFile(tokenFile, "old");
+        String token = HttpApiServer.generateToken();
+        HttpApiServer.writeTokenFile(tokenFile, token);
+
+        assertEquals(token, FileUtil.readFromFile(tokenFile));
+        assertNotEquals(token, HttpApiServer.generateToken());
+    }
+
+    private HttpURLConnection open(String path, String method) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection)
+                new URL("http://127.0.0.1:" + server.getPort() + path).openConnection();
+        connection.setRequestMethod(method);
+        connection.setRequestProperty(HttpApiServer.TOKEN_HEADER, TOKEN);
+        return connection;
+    }
+
+    /**
+     * Sends a request with the token and the given {@code Host} and extra header over a plain socket, since
+     * {@code HttpURLConnection} does not let either header be set, and returns the status code of the response.
+     */
+    private int sendRaw(String method, String host, String extraHeader) throws IOException {
+        String body = method.equals("POST") ? "clear" : "";
+        String path = method.equals("POST") ? HttpApiServer.COMMANDS_PATH : HttpApiServer.PERSONS_PATH;
+        String request = method + " " + path + " HTTP/1.1\r\n"
+                + "Host: " + host + "\r\n"
+                + HttpApiServer.TOKEN_HEADER + ": " + TOKEN + "\r\n"
+                + (extraHeader == null ? "" : extraHeader + "\r\n")
+                + "Content-Length: " + body.length() + "\r\n"
+                + "Connection: close\r\n\r\n"
+                + body;
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            socket.getOutputStream().write(request.getBytes(StandardCharsets.UTF_8));
+            String statusLine = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                    StandardCharsets.UTF_8)).readLine();
+            return Integer.parseInt(statusLine.split(" ")[1]);
+        }
+    }
+
+    private HttpURLConnection post(String commandText) throws IOException {
+        HttpURLConnection connection = open(HttpApiServer.COMMANDS_PATH, "POST");
+        connection.setDoOutput(true);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(commandText.getBytes(StandardCharsets.UTF_8));
+        }
+        return connection;
+    }
+
+    private List<Object> getNames(String query) throws IOException {
+        HttpURLConnection connection = open(HttpApiServer.PERSONS_PATH + query, "GET");
+        assertEquals(200, connection.getResponseCode());
+        List<?> persons = readJson(connection.getInputStream(), List.class);
+        return persons.stream()
+                .map(person -> ((Map<?, ?>) person).get("name"))
+                .collect(Collectors.toList());
+    }
+
+    private static <T> T readJson(InputStream in, Class<T> type) throws IOException {
+        try (in) {
+            return JsonUtil.fromJsonString(new String(in.readAllBytes(), StandardCharsets.UTF_8), type);
+        }
+    }
+}
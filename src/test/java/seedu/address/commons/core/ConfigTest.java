@@ -12,7 +12,16 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", maxPersons=" + config.getMaxPersons()
+                + ", storageFormat=" + config.getStorageFormat()
+                + ", saveDelayMillis=" + config.getSaveDelayMillis()
+                + ", maxPendingChanges=" + config.getMaxPendingChanges()
+                + ", prettyPrintMaxPersons=" + config.getPrettyPrintMaxPersons()
+                + ", durabilityPolicy=" + config.getDurabilityPolicy()
+                + ", warmStartCacheEnabled=" + config.isWarmStartCacheEnabled()
+                + ", dataFileWatched=" + config.isDataFileWatched()
+                + ", httpApiPort=" + config.getHttpApiPort() + "}";
         assertEquals(expected, config.toString());
     }
 
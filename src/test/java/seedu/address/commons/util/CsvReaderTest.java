@@ -0,0 +1,50 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+    @Test
+    public void readRecord_plainFields_splitOnCommas() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("name,phone\nAlice,94351253\n,\n"));
+        assertEquals(Arrays.asList("name", "phone"), reader.readRecord());
+        assertEquals(Arrays.asList("Alice", "94351253"), reader.readRecord());
+        assertEquals(Arrays.asList("", ""), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_quotedFields_unquoted() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("\"Blk 30, Geylang St 29\",\"say \"\"hi\"\"\",x\"y\n"));
+        assertEquals(Arrays.asList("Blk 30, Geylang St 29", "say \"hi\"", "x\"y"), reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_lineBreakInQuotedField_recordSpansLines() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("a,\"first\r\nsecond\"\nb,c\n"));
+        assertEquals(Arrays.asList("a", "first\nsecond"), reader.readRecord());
+        assertEquals(1, reader.getRecordLineNumber());
+        assertEquals(Arrays.asList("b", "c"), reader.readRecord());
+        assertEquals(3, reader.getRecordLineNumber());
+    }
+
+    @Test
+    public void readRecord_byteOrderMark_ignored() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("\uFEFFname,phone\n"));
+        assertEquals(Arrays.asList("name", "phone"), reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_unclosedQuotedField_throwsIoException() {
+        CsvReader reader = new CsvReader(new StringReader("a,\"unclosed\nfield"));
+        assertThrows(IOException.class, reader::readRecord);
+    }
+}
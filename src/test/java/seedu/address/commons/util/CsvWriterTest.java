@@ -0,0 +1,37 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvWriterTest {
+
+    @Test
+    public void writeRecord_plainFields_notQuoted() throws Exception {
+        StringWriter out = new StringWriter();
+        new CsvWriter(out).writeRecord("Alice Pauline", "94351253", "");
+        assertEquals("Alice Pauline,94351253,\n", out.toString());
+    }
+
+    @Test
+    public void writeRecord_specialCharacters_quoted() throws Exception {
+        StringWriter out = new StringWriter();
+        new CsvWriter(out).writeRecord("Blk 30, Geylang", "say \"hi\"", "two\nlines");
+        assertEquals("\"Blk 30, Geylang\",\"say \"\"hi\"\"\",\"two\nlines\"\n", out.toString());
+    }
+
+    @Test
+    public void writeRecord_readBack_sameFields() throws Exception {
+        String[] fields = {"\"", ",", "a\r\nb", " spaced ", ""};
+        StringWriter out = new StringWriter();
+        new CsvWriter(out).writeRecord(fields);
+
+        // CsvReader reads line breaks in quoted fields as \n
+        assertEquals(Arrays.asList("\"", ",", "a\nb", " spaced ", ""),
+                new CsvReader(new StringReader(out.toString())).readRecord());
+    }
+}
@@ -1,13 +1,23 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,37 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_newFile_written() throws Exception {
+        Path file = testFolder.resolve("missing").resolve("file.txt");
+
+        FileUtil.writeAtomically(file, out -> out.write("new".getBytes(StandardCharsets.UTF_8)), true);
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals(1, Files.list(file.getParent()).count());
+    }
+
+    @Test
+    public void writeAtomically_writerClosesStream_written() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+
+        FileUtil.writeAtomically(file, out -> {
+            out.write("new".getBytes(StandardCharsets.UTF_8));
+            out.close();
+        }, false);
+        assertEquals("new", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_oldContentKept() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("dummy IO exception");
+        }, true));
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertEquals(1, Files.list(testFolder).count());
+    }
+
 }
@@ -0,0 +1,110 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    private static List<Integer> range(int from, int to) {
+        return IntStream.range(from, to).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    public void of_manyChunks_sameElements() {
+        List<Integer> expected = range(0, PersistentList.CHUNK_SIZE * 3 + 5);
+        PersistentList<Integer> list = PersistentList.of(expected);
+
+        assertEquals(expected, list);
+        assertEquals(expected, new ArrayList<>(list));
+        assertEquals(expected.size() - 1, list.indexOf(expected.size() - 1));
+        assertEquals(-1, list.indexOf(-1));
+    }
+
+    @Test
+    public void plus_derivedList_originalUnchanged() {
+        PersistentList<Integer> original = PersistentList.of(range(0, PersistentList.CHUNK_SIZE));
+        PersistentList<Integer> derived = original.plus(-1).with(0, -2).minus(1);
+
+        assertEquals(range(0, PersistentList.CHUNK_SIZE), original);
+        List<Integer> expected = new ArrayList<>(range(0, PersistentList.CHUNK_SIZE));
+        expected.add(-1);
+        expected.set(0, -2);
+        expected.remove(1);
+        assertEquals(expected, derived);
+    }
+
+    @Test
+    public void plusAll_partlyFilledLastChunk_sameElements() {
+        PersistentList<Integer> list = PersistentList.of(range(0, 10)).plusAll(range(10, 100));
+        assertEquals(range(0, 100), list);
+        assertEquals(list, PersistentList.<Integer>empty().plusAll(Collections.emptyList()).plusAll(range(0, 100)));
+    }
+
+    @Test
+    public void minus_everyElement_emptyList() {
+        PersistentList<Integer> list = PersistentList.of(range(0, 100));
+        for (int i = 0; i < 100; i++) {
+            list = list.minus(list.size() / 2);
+        }
+        assertEquals(Collections.emptyList(), list);
+    }
+
+    @Test
+    public void randomChanges_sameAsArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 5000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(4);
+            switch (operation) {
+            case 0:
+                expected.add(i);
+                list = list.plus(i);
+                break;
+            case 1:
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                list = list.with(index, i);
+                break;
+            case 2:
+                index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.minus(index);
+                break;
+            default:
+                List<Integer> added = Arrays.asList(i, i + 1, i + 2);
+                expected.addAll(added);
+                list = list.plusAll(added);
+                break;
+            }
+        }
+        assertEquals(expected, list);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<Integer> list = PersistentList.of(range(0, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(-1));
+    }
+
+    @Test
+    public void set_anyIndex_throwsUnsupportedOperationException() {
+        PersistentList<Integer> list = PersistentList.of(range(0, 3));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, 1));
+        assertThrows(UnsupportedOperationException.class, () -> list.add(1));
+    }
+}
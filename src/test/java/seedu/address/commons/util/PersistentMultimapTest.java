@@ -0,0 +1,63 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentMultimapTest {
+
+    @Test
+    public void of_manyKeys_sameValues() {
+        Map<Integer, List<String>> valuesByKey = new HashMap<>();
+        for (int key = 0; key < 5000; key++) {
+            valuesByKey.put(key * 31, Arrays.asList("a" + key, "b" + key));
+        }
+        PersistentMultimap<Integer, String> map = PersistentMultimap.of(valuesByKey);
+
+        for (Map.Entry<Integer, List<String>> entry : valuesByKey.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        assertEquals(Collections.emptyList(), map.get(-1));
+    }
+
+    @Test
+    public void plusMinus_derivedMap_originalUnchanged() {
+        PersistentMultimap<String, Integer> original = PersistentMultimap.<String, Integer>empty()
+                .plus("friends", 1).plus("friends", 2).plus("family", 3);
+        PersistentMultimap<String, Integer> derived = original.plus("friends", 4).minus("friends", 1)
+                .minus("family", 3);
+
+        assertEquals(Arrays.asList(1, 2), original.get("friends"));
+        assertEquals(Collections.singletonList(3), original.get("family"));
+        assertEquals(Arrays.asList(2, 4), derived.get("friends"));
+        assertEquals(Collections.emptyList(), derived.get("family"));
+    }
+
+    @Test
+    public void minus_absentValue_sameMap() {
+        PersistentMultimap<String, Integer> map = PersistentMultimap.<String, Integer>empty().plus("friends", 1);
+        assertSame(map, map.minus("friends", 2));
+        assertSame(map, map.minus("family", 1));
+    }
+
+    @Test
+    public void plusMinus_keysWithSameHash_keptApart() {
+        // "Aa" and "BB" have the same hash code
+        PersistentMultimap<String, Integer> map = PersistentMultimap.<String, Integer>empty()
+                .plus("Aa", 1).plus("BB", 2).plus("Aa", 3);
+        assertEquals(Arrays.asList(1, 3), map.get("Aa"));
+        assertEquals(Collections.singletonList(2), map.get("BB"));
+
+        PersistentMultimap<String, Integer> derived = map.minus("Aa", 1).minus("Aa", 3);
+        assertEquals(Collections.emptyList(), derived.get("Aa"));
+        assertEquals(Collections.singletonList(2), derived.get("BB"));
+        assertEquals(Arrays.asList(1, 3), map.get("Aa"));
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    private static final String ALPHABET = "aZ09 6 8\t\n\r\u0085\u2028\u000B.@-_\u00e9";
+
+    @Test
+    public void matches_sameAsStringMatches() {
+        String regex = "^(?:$|(?=.{1,50}$)[A-Za-z0-9]+@(?:[A-Za-z]+\\.)*[A-Za-z]+)$";
+        for (String input : getInputs()) {
+            assertEquals(input.matches(regex), ValidationUtil.matches(regex, input), input);
+        }
+    }
+
+    @Test
+    public void matches_nullInput_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.matches("a", null));
+    }
+
+    @Test
+    public void isDigits_sameAsRegex() {
+        assertSameAsRegex("[689][0-9]{7}", input -> ValidationUtil.isDigits(input, 8, "689"));
+        assertTrue(ValidationUtil.isDigits("91234567", 8, "689"));
+        assertFalse(ValidationUtil.isDigits("71234567", 8, "689"));
+        assertFalse(ValidationUtil.isDigits("9123456", 8, "689"));
+    }
+
+    @Test
+    public void isLetters_sameAsRegex() {
+        assertSameAsRegex("[A-Za-z]+", ValidationUtil::isLetters);
+    }
+
+    @Test
+    public void isLetterWords_sameAsRegex() {
+        assertSameAsRegex("[A-Za-z]+(?: [A-Za-z]+)*", ValidationUtil::isLetterWords);
+        assertTrue(ValidationUtil.isLetterWords("Alice Pauline"));
+        assertFalse(ValidationUtil.isLetterWords("Alice  Pauline"));
+        assertFalse(ValidationUtil.isLetterWords("Alice "));
+    }
+
+    @Test
+    public void isSingleLineNotStartingWithWhitespace_sameAsRegex() {
+        assertSameAsRegex("[^\\s].*", ValidationUtil::isSingleLineNotStartingWithWhitespace);
+    }
+
+    @Test
+    public void hasNonWhitespace_sameAsTrim() {
+        for (String input : getInputs()) {
+            assertEquals(!input.trim().isEmpty(), ValidationUtil.hasNonWhitespace(input), input);
+        }
+    }
+
+    @Test
+    public void trimmedLength_sameAsTrim() {
+        for (String input : getInputs()) {
+            assertEquals(input.trim().length(), ValidationUtil.trimmedLength(input), input);
+        }
+    }
+
+    private static void assertSameAsRegex(String regex, Predicate<String> scanner) {
+        for (String input : getInputs()) {
+            assertEquals(input.matches(regex), scanner.test(input), input);
+        }
+    }
+
+    /**
+     * Returns fixed edge cases and random strings over characters that the validated formats treat specially.
+     */
+    private static List<String> getInputs() {
+        List<String> inputs = new ArrayList<>(List.of("", " ", "a", "a b", " a", "a ", "a\nb", "\u0085a",
+                "\u2028", "91234567", "61234567", "912345678", "a@b.c", "a@b.", "@b", "\uD83D\uDE00 x"));
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            StringBuilder input = new StringBuilder();
+            int length = random.nextInt(10);
+            for (int j = 0; j < length; j++) {
+                input.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            inputs.add(input.toString());
+        }
+        return inputs;
+    }
+
+}
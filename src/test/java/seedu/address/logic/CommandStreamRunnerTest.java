@@ -0,0 +1,66 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class CommandStreamRunnerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private CommandStreamRunner runner;
+    private final StringWriter out = new StringWriter();
+    private final StringWriter err = new StringWriter();
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        runner = new CommandStreamRunner(new LogicManager(new ModelManager(), storage));
+    }
+
+    private int run(String input) throws Exception {
+        return runner.run(new BufferedReader(new StringReader(input)), new PrintWriter(out), new PrintWriter(err));
+    }
+
+    @Test
+    public void run_validCommands_feedbackWritten() throws Exception {
+        assertEquals(0, run(ListCommand.COMMAND_WORD + "\n\n  \n" + ListCommand.COMMAND_WORD + "\n"));
+        assertEquals(ListCommand.MESSAGE_SUCCESS + System.lineSeparator() + ListCommand.MESSAGE_SUCCESS
+                + System.lineSeparator(), out.toString());
+        assertEquals("", err.toString());
+    }
+
+    @Test
+    public void run_invalidCommand_errorWrittenAndCounted() throws Exception {
+        assertEquals(1, run("uicfhmowqewca\n" + ListCommand.COMMAND_WORD));
+        assertEquals(ListCommand.MESSAGE_SUCCESS + System.lineSeparator(), out.toString());
+        assertEquals(MESSAGE_UNKNOWN_COMMAND + System.lineSeparator(), err.toString());
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() throws Exception {
+        assertEquals(0, run(ExitCommand.COMMAND_WORD + "\nuicfhmowqewca\n"));
+        assertEquals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + System.lineSeparator(), out.toString());
+        assertEquals("", err.toString());
+    }
+}
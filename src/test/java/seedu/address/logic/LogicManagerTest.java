@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -12,7 +14,10 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +25,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -28,6 +34,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.storage.BackgroundAddressBookSaver;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -70,6 +77,12 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_changingCommand_snapshotCommitted() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertEquals(model.getFilteredPersonList(), logic.getSnapshot().getPersons());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -82,6 +95,64 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_saveSkipped() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, logic.getSkippedSaveCount());
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void execute_mutatingCommand_saved() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertEquals(0, logic.getSkippedSaveCount());
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, logic.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_backgroundCommandWithHandler_outcomePassedToHandler() throws Exception {
+        Path exportPath = temporaryFolder.resolve("seniors.csv");
+        CompletableFuture<String> outcome = new CompletableFuture<>();
+        logic.setBackgroundMessageHandler(message -> {
+            if (!message.endsWith("...")) {
+                outcome.complete(message);
+            }
+        });
+
+        CommandResult result = logic.execute(ExportCommand.COMMAND_WORD + " " + exportPath);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_STARTED, 0, exportPath), result.getFeedbackToUser());
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 0, exportPath), outcome.get(30, TimeUnit.SECONDS));
+        assertTrue(Files.exists(exportPath));
+    }
+
+    @Test
+    public void execute_backgroundCommandWithoutHandler_completedBeforeReturn() throws Exception {
+        Path exportPath = temporaryFolder.resolve("seniors.csv");
+        CommandResult result = logic.execute(ExportCommand.COMMAND_WORD + " " + exportPath);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 0, exportPath), result.getFeedbackToUser());
+        assertTrue(Files.exists(exportPath));
+    }
+
+    @Test
+    public void execute_backgroundSaver_savedOnFlush() throws Exception {
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        BackgroundAddressBookSaver backgroundSaver = new BackgroundAddressBookSaver(storage, 60_000, 100);
+        logic = new LogicManager(model, storage, backgroundSaver);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertTrue(backgroundSaver.hasPendingChanges());
+
+        backgroundSaver.close();
+        assertEquals(model.getAddressBook(), new ModelManager(storage.readAddressBook().get(), new UserPrefs())
+                .getAddressBook());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
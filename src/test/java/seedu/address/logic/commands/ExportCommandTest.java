@@ -0,0 +1,137 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.CsvPersonImporter;
+import seedu.address.storage.PersonExporter.Format;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_filteredList_displayedSeniorsExported() throws Exception {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
+        Path filePath = testFolder.resolve("seniors.csv");
+
+        assertCommandSuccess(new ExportCommand(filePath, Format.CSV, false), model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, 1, filePath), expectedModel);
+        assertEquals(Collections.singletonList(ALICE),
+                new CsvPersonImporter().importPersons(filePath, person -> false).getPersons());
+    }
+
+    @Test
+    public void execute_allSeniors_fullListExported() throws Exception {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        Path filePath = testFolder.resolve("seniors.csv");
+
+        new ExportCommand(filePath, Format.CSV, true).execute(model);
+
+        assertEquals(getTypicalPersons(),
+                new CsvPersonImporter().importPersons(filePath, person -> false).getPersons());
+    }
+
+    @Test
+    public void execute_unwritableFile_throwsCommandException() throws Exception {
+        Path filePath = testFolder.resolve("taken.jsonl");
+        Files.createDirectory(filePath);
+
+        assertThrows(CommandException.class, () -> new ExportCommand(filePath, Format.JSON_LINES, true)
+                .execute(model));
+    }
+
+    @Test
+    public void executeInBackground_messagesPassedToHandler() throws Exception {
+        Path filePath = testFolder.resolve("seniors.jsonl");
+        List<Runnable> tasks = new ArrayList<>();
+        List<String> messages = new ArrayList<>();
+        int seniorCount = getTypicalPersons().size();
+
+        CommandResult result = new ExportCommand(filePath, Format.JSON_LINES, true)
+                .executeInBackground(model, tasks::add, messages::add);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_STARTED, seniorCount, filePath), result.getFeedbackToUser());
+        assertFalse(Files.exists(filePath));
+        assertEquals(1, tasks.size());
+
+        tasks.get(0).run();
+        assertTrue(Files.exists(filePath));
+        assertEquals(String.format(ExportCommand.MESSAGE_PROGRESS, 1, seniorCount, filePath), messages.get(0));
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, seniorCount, filePath),
+                messages.get(messages.size() - 1));
+    }
+
+    @Test
+    public void executeInBackground_unexpectedException_failurePassedToHandler() {
+        Path filePath = testFolder.resolve("seniors.jsonl");
+        List<Runnable> tasks = new ArrayList<>();
+        List<String> messages = new ArrayList<>();
+        RuntimeException unexpectedException = new IllegalStateException("dummy runtime exception");
+
+        new ExportCommand(filePath, Format.JSON_LINES, true).executeInBackground(model, tasks::add, message -> {
+            if (messages.isEmpty()) {
+                messages.add(message);
+                throw unexpectedException;
+            }
+            messages.add(message);
+        });
+        tasks.get(0).run();
+
+        assertEquals(String.format(ExportCommand.MESSAGE_FAILURE, filePath, unexpectedException),
+                messages.get(messages.size() - 1));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand(Paths.get("seniors.csv"), Format.CSV, false);
+
+        // same object -> returns true
+        assertTrue(exportCommand.equals(exportCommand));
+
+        // same values -> returns true
+        assertTrue(exportCommand.equals(new ExportCommand(Paths.get("seniors.csv"), Format.CSV, false)));
+
+        // different types -> returns false
+        assertFalse(exportCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("others.csv"), Format.CSV, false)));
+
+        // different format -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("seniors.csv"), Format.JSON_LINES, false)));
+
+        // different scope -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("seniors.csv"), Format.CSV, true)));
+    }
+}
@@ -18,6 +18,8 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 
 public class FilterCommandTest {
 
@@ -69,6 +71,17 @@ public class FilterCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_personTaggedAfterFilter_filteredListUpdated() {
+        FilterCommand command = new FilterCommand(Collections.singletonList("VIP"));
+        command.execute(model);
+        assertEquals(Arrays.asList(CARL, FIONA), model.getFilteredPersonList());
+
+        Person taggedElle = ELLE.addTag(new Tag("vip"));
+        model.setPerson(ELLE, taggedElle);
+        assertEquals(Arrays.asList(CARL, taggedElle, FIONA), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         List<String> tags = Arrays.asList("vip", "friend");
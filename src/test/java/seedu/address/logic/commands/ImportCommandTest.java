@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_validFile_newSeniorsAdded() throws Exception {
+        Path filePath = testFolder.resolve("seniors.csv");
+        Files.write(filePath, Arrays.asList("name,phone,address,tags",
+                "Ramesh Kumar,91234567,Blk 30 Geylang Street 29,bilingual;hard-of-hearing",
+                ALICE.getName().fullName + "," + ALICE.getPhone().value + ",somewhere"), StandardCharsets.UTF_8);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        int originalSize = model.getFullPersonList().size();
+
+        CommandResult result = new ImportCommand(filePath).execute(model);
+
+        Person ramesh = new PersonBuilder().withName("Ramesh Kumar").withPhone("91234567").withEmail("")
+                .withAddress("Blk 30 Geylang Street 29").withRemark("").withTags("bilingual", "hard-of-hearing")
+                .build();
+        assertEquals(originalSize + 1, model.getFullPersonList().size());
+        assertEquals(ramesh, model.getFullPersonList().get(originalSize));
+        assertTrue(result.getFeedbackToUser().startsWith("Imported 1 of 2 seniors"), result.getFeedbackToUser());
+        assertTrue(result.getFeedbackToUser().contains("Already in the address book: 1"));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = testFolder.resolve("missing.csv");
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandFailure(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_FAILURE, filePath, filePath));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("seniors.csv"));
+
+        // same object -> returns true
+        assertTrue(importCommand.equals(importCommand));
+
+        // same values -> returns true
+        assertTrue(importCommand.equals(new ImportCommand(Paths.get("seniors.csv"))));
+
+        // different types -> returns false
+        assertFalse(importCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("others.csv"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("seniors.csv"));
+        String expected = ImportCommand.class.getCanonicalName() + "{filePath=seniors.csv}";
+        assertEquals(expected, importCommand.toString());
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tag.Tag;
+
+public class RunCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_validScript_allCommandsRun() throws Exception {
+        Path filePath = testFolder.resolve("nightly.txt");
+        Files.write(filePath, Arrays.asList("# nightly reconciliation", "tag i/1 t/visited", "",
+                "remark i/2 r/Called back"), StandardCharsets.UTF_8);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        CommandResult result = new RunCommand(filePath).execute(model);
+
+        assertTrue(model.getFilteredPersonList().get(0).getTags().contains(new Tag("visited")));
+        assertEquals("Called back", model.getFilteredPersonList().get(1).getRemark().value);
+        String feedback = result.getFeedbackToUser();
+        assertTrue(feedback.startsWith("Ran 2 commands from " + filePath), feedback);
+        assertTrue(feedback.contains("\nLine 2: tag i/1 t/visited ("), feedback);
+        assertTrue(feedback.contains("\nLine 4: remark i/2 r/Called back ("), feedback);
+    }
+
+    @Test
+    public void execute_failingCommand_noChangesKept() throws Exception {
+        Path filePath = testFolder.resolve("nightly.txt");
+        Files.write(filePath, Arrays.asList("tag i/1 t/visited", "tag i/1000 t/visited"), StandardCharsets.UTF_8);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        CommandException e = assertThrows(CommandException.class, () -> new RunCommand(filePath).execute(model));
+
+        assertTrue(e.getMessage().startsWith("Line 2 of " + filePath + " failed"), e.getMessage());
+        assertTrue(e.getMessage().contains("tag i/1000 t/visited"), e.getMessage());
+        assertEquals(getTypicalAddressBook(), new AddressBook(model.getAddressBook()));
+    }
+
+    @Test
+    public void execute_nestedScript_noChangesKept() throws Exception {
+        Path filePath = testFolder.resolve("nightly.txt");
+        Files.write(filePath, Arrays.asList("tag i/1 t/visited", "run other.txt"), StandardCharsets.UTF_8);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        CommandException e = assertThrows(CommandException.class, () -> new RunCommand(filePath).execute(model));
+
+        assertTrue(e.getMessage().endsWith(RunCommand.MESSAGE_NESTED_SCRIPT), e.getMessage());
+        assertEquals(getTypicalAddressBook(), new AddressBook(model.getAddressBook()));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = testFolder.resolve("missing.txt");
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandFailure(new RunCommand(filePath), model,
+                String.format(RunCommand.MESSAGE_READ_FAILURE, filePath, filePath));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(Paths.get("nightly.txt"));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(Paths.get("nightly.txt"))));
+
+        // different types -> returns false
+        assertFalse(runCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Paths.get("weekly.txt"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        RunCommand runCommand = new RunCommand(Paths.get("nightly.txt"));
+        String expected = RunCommand.class.getCanonicalName() + "{filePath=nightly.txt}";
+        assertEquals(expected, runCommand.toString());
+    }
+}
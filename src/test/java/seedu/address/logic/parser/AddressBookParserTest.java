@@ -9,6 +9,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -21,14 +22,18 @@ import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.RemarkCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Remark;
+import seedu.address.storage.PersonExporter.Format;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -51,6 +56,27 @@ public class AddressBookParserTest {
         assertThrows(ParseException.class, () -> parser.parseCommand("clear 3"));
     }
 
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) parser.parseCommand(ImportCommand.COMMAND_WORD + " seniors.csv");
+        assertEquals(new ImportCommand(Paths.get("seniors.csv")), command);
+        assertThrows(ParseException.class, () -> parser.parseCommand(ImportCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        ExportCommand command = (ExportCommand) parser.parseCommand(ExportCommand.COMMAND_WORD + " seniors.csv --all");
+        assertEquals(new ExportCommand(Paths.get("seniors.csv"), Format.CSV, true), command);
+        assertThrows(ParseException.class, () -> parser.parseCommand(ExportCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_run() throws Exception {
+        RunCommand command = (RunCommand) parser.parseCommand(RunCommand.COMMAND_WORD + " nightly.txt");
+        assertEquals(new RunCommand(Paths.get("nightly.txt")), command);
+        assertThrows(ParseException.class, () -> parser.parseCommand(RunCommand.COMMAND_WORD));
+    }
+
     @Test
     public void parseCommand_delete() throws Exception {
         DeleteCommand commandByIndex = (DeleteCommand) parser.parseCommand(
@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.storage.PersonExporter.Format;
+
+public class ExportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, " data/visits.csv ",
+                new ExportCommand(Paths.get("data/visits.csv"), Format.CSV, false));
+        assertParseSuccess(parser, "my visits.jsonl --all",
+                new ExportCommand(Paths.get("my visits.jsonl"), Format.JSON_LINES, true));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // no file
+        assertParseFailure(parser, "  ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, ExportCommand.FLAG_ALL, MESSAGE_INVALID_FORMAT);
+
+        // unknown format
+        assertParseFailure(parser, "visits.txt", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "visits.csv --everyone", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookSnapshotTest {
+
+    private final Tag friends = new Tag("friends");
+
+    @Test
+    public void of_persons_indexedByTagAndPhone() {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(Arrays.asList(ALICE, BENSON, CARL));
+
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), snapshot.getPersons());
+        assertEquals(Arrays.asList(ALICE, BENSON), snapshot.getPersonsWithTag(friends));
+        assertEquals(Collections.singletonList(CARL), snapshot.getPersonsWithPhone(CARL.getPhone().value));
+        assertEquals(Collections.emptyList(), snapshot.getPersonsWithTag(new Tag("unknown")));
+    }
+
+    @Test
+    public void withChanges_derivedSnapshot_originalUnchanged() {
+        AddressBookSnapshot original = AddressBookSnapshot.of(Arrays.asList(ALICE, BENSON));
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").withTags("vip").build();
+
+        AddressBookSnapshot derived = original.withAdded(CARL)
+                .withAddedAll(Collections.singletonList(DANIEL))
+                .withReplaced(0, ALICE, editedAlice)
+                .withRemoved(1, BENSON);
+
+        assertEquals(Arrays.asList(ALICE, BENSON), original.getPersons());
+        assertEquals(Arrays.asList(ALICE, BENSON), original.getPersonsWithTag(friends));
+        assertEquals(Collections.singletonList(ALICE), original.getPersonsWithPhone(ALICE.getPhone().value));
+
+        assertEquals(Arrays.asList(editedAlice, CARL, DANIEL), derived.getPersons());
+        assertEquals(Collections.singletonList(DANIEL), derived.getPersonsWithTag(friends));
+        assertEquals(Arrays.asList(CARL, editedAlice), derived.getPersonsWithTag(new Tag("vip")));
+        assertEquals(Collections.emptyList(), derived.getPersonsWithPhone(ALICE.getPhone().value));
+        assertEquals(Collections.singletonList(editedAlice), derived.getPersonsWithPhone("91234567"));
+    }
+
+    @Test
+    public void withOrder_reorderedPersons_indexesKept() {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(Arrays.asList(ALICE, BENSON, CARL));
+        List<Person> reordered = Arrays.asList(CARL, BENSON, ALICE);
+
+        AddressBookSnapshot reorderedSnapshot = snapshot.withOrder(reordered);
+
+        assertEquals(reordered, reorderedSnapshot.getPersons());
+        assertEquals(Arrays.asList(ALICE, BENSON), reorderedSnapshot.getPersonsWithTag(friends));
+    }
+}
@@ -7,6 +7,9 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -20,6 +23,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -54,6 +58,114 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void resetData_withAddressBook_identitiesCopied() {
+        AddressBook newData = new AddressBook();
+        newData.addPerson(ALICE);
+        addressBook.resetData(newData);
+        assertTrue(addressBook.hasPerson(ALICE));
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPerson(ALICE));
+    }
+
+    @Test
+    public void getVersion_changedOnlyByMutations() {
+        long version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.resetData(addressBook);
+        assertEquals(version, addressBook.getVersion());
+
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() != version);
+
+        version = addressBook.getVersion();
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build());
+        assertTrue(addressBook.getVersion() != version);
+    }
+
+    @Test
+    public void syncWith_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> addressBook.syncWith(null));
+    }
+
+    @Test
+    public void syncWith_sameData_noChanges() {
+        addressBook.resetData(getTypicalAddressBook());
+        long version = addressBook.getVersion();
+        assertEquals(0, addressBook.syncWith(getTypicalAddressBook()));
+        assertEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void syncWith_changedData_onlyDifferencesApplied() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(CARL);
+
+        Person editedBenson = new PersonBuilder(BENSON).withTags(VALID_TAG_HUSBAND).build();
+        AddressBook newData = new AddressBook();
+        newData.addPerson(HOON);
+        newData.addPerson(editedBenson);
+        newData.addPerson(ALICE);
+
+        // Benson is replaced in place, Carl is removed and Hoon is added at the end
+        assertEquals(3, addressBook.syncWith(newData));
+        assertEquals(Arrays.asList(ALICE, editedBenson, HOON), addressBook.getPersonList());
+        assertEquals(Collections.singleton(editedBenson),
+                addressBook.getPersonsWithTag(new Tag(VALID_TAG_HUSBAND)));
+    }
+
+    @Test
+    public void syncWith_remarkOnlyChanged_personReplaced() {
+        addressBook.addPerson(ALICE);
+        Person remarkedAlice = new PersonBuilder(ALICE).withRemark("Prefers morning visits").build();
+        AddressBook newData = new AddressBook();
+        newData.addPerson(remarkedAlice);
+
+        assertEquals(1, addressBook.syncWith(newData));
+        assertEquals(remarkedAlice.getRemark(), addressBook.getPersonList().get(0).getRemark());
+    }
+
+    @Test
+    public void getSnapshot_afterChanges_matchesPersonList() {
+        AddressBookSnapshot emptySnapshot = addressBook.getSnapshot();
+        addressBook.resetData(getTypicalAddressBook());
+        addressBook.removePerson(ALICE);
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withTags(VALID_TAG_HUSBAND).build());
+        addressBook.addPerson(HOON);
+        addressBook.sortPersons((first, second) -> second.getName().fullName.compareTo(first.getName().fullName));
+
+        assertEquals(Collections.emptyList(), emptySnapshot.getPersons());
+        assertEquals(addressBook.getPersonList(), addressBook.getSnapshot().getPersons());
+        assertEquals(List.copyOf(addressBook.getPersonsWithTag(new Tag(VALID_TAG_HUSBAND))),
+                addressBook.getSnapshot().getPersonsWithTag(new Tag(VALID_TAG_HUSBAND)));
+        assertEquals(addressBook.getSnapshot().getPersons(), new AddressBook(addressBook).getSnapshot().getPersons());
+    }
+
+    @Test
+    public void getSnapshot_editsAfterSort_matchesPersonList() {
+        addressBook.resetData(getTypicalAddressBook());
+        addressBook.getSnapshot();
+        addressBook.sortPersons((first, second) -> second.getName().fullName.compareTo(first.getName().fullName));
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withTags(VALID_TAG_HUSBAND).build());
+        addressBook.removePerson(ALICE);
+
+        assertEquals(addressBook.getPersonList(), addressBook.getSnapshot().getPersons());
+        assertEquals(List.copyOf(addressBook.getPersonsWithTag(new Tag(VALID_TAG_HUSBAND))),
+                addressBook.getSnapshot().getPersonsWithTag(new Tag(VALID_TAG_HUSBAND)));
+    }
+
+    @Test
+    public void getPersonsWithTag_afterEdit_indexUpdated() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertTrue(addressBook.getPersonsWithTag(new Tag("friends")).isEmpty());
+        assertEquals(Collections.singleton(editedAlice), addressBook.getPersonsWithTag(new Tag(VALID_TAG_HUSBAND)));
+
+        addressBook.removePerson(editedAlice);
+        assertTrue(addressBook.getPersonsWithTag(new Tag(VALID_TAG_HUSBAND)).isEmpty());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -11,6 +11,7 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
@@ -93,6 +94,28 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void getSnapshot_uncommittedChanges_notVisible() {
+        modelManager.addPerson(ALICE);
+        assertEquals(Collections.emptyList(), modelManager.getSnapshot().getPersons());
+
+        modelManager.commitSnapshot();
+        AddressBookSnapshot committed = modelManager.getSnapshot();
+        modelManager.addPerson(BENSON);
+        modelManager.deletePerson(ALICE);
+        modelManager.commitSnapshot();
+
+        assertEquals(Collections.singletonList(ALICE), committed.getPersons());
+        assertEquals(Collections.singletonList(BENSON), modelManager.getSnapshot().getPersons());
+    }
+
+    @Test
+    public void getSnapshot_modifyList_throwsUnsupportedOperationException() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitSnapshot();
+        assertThrows(UnsupportedOperationException.class, () -> modelManager.getSnapshot().getPersons().remove(0));
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,64 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameIndexTest {
+
+    private final NameIndex nameIndex = new NameIndex();
+
+    @Test
+    public void findPersonsContainingAny_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameIndex.findPersonsContainingAny(null));
+    }
+
+    @Test
+    public void findPersonsContainingAny_sameResultsAsPredicate() {
+        List<Person> persons = getTypicalPersons();
+        nameIndex.reset(persons);
+        for (String keywords : Arrays.asList("meier", "MEI", "el", "e", "urz ey unz", "xyz", "n m", "alice pauline")) {
+            List<String> keywordList = Arrays.asList(keywords.split(" "));
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywordList);
+            Set<Person> expected = Set.copyOf(persons.stream().filter(predicate).toList());
+            assertEquals(expected, nameIndex.findPersonsContainingAny(keywordList), keywords);
+        }
+    }
+
+    @Test
+    public void findPersonsContainingAny_afterAddAndRemove_resultsUpdated() {
+        nameIndex.add(ALICE);
+        nameIndex.add(BENSON);
+        List<String> keywords = Collections.singletonList("meier");
+        assertEquals(Set.of(BENSON), nameIndex.findPersonsContainingAny(keywords));
+
+        nameIndex.add(DANIEL);
+        assertEquals(Set.of(BENSON, DANIEL), nameIndex.findPersonsContainingAny(keywords));
+
+        nameIndex.remove(BENSON);
+        assertEquals(Set.of(DANIEL), nameIndex.findPersonsContainingAny(keywords));
+    }
+
+    @Test
+    public void findPersonsContainingAny_renamedPerson_oldNameNotFound() {
+        nameIndex.add(ALICE);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        nameIndex.remove(ALICE);
+        nameIndex.add(renamedAlice);
+        assertTrue(nameIndex.findPersonsContainingAny(Collections.singletonList("pauline")).isEmpty());
+        assertEquals(Set.of(renamedAlice), nameIndex.findPersonsContainingAny(Collections.singletonList("tan")));
+    }
+}
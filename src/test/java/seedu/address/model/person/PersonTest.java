@@ -90,6 +90,23 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void hasSameData() {
+        // same values -> returns true
+        assertTrue(ALICE.hasSameData(new PersonBuilder(ALICE).build()));
+
+        // null -> returns false
+        assertFalse(ALICE.hasSameData(null));
+
+        // different tags -> returns false
+        assertFalse(ALICE.hasSameData(new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build()));
+
+        // different remark only -> returns false, unlike equals
+        Person editedAlice = new PersonBuilder(ALICE).withRemark("Prefers morning visits").build();
+        assertTrue(ALICE.equals(editedAlice));
+        assertFalse(ALICE.hasSameData(editedAlice));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
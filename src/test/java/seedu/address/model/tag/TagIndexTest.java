@@ -0,0 +1,65 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+
+public class TagIndexTest {
+
+    private final TagIndex tagIndex = new TagIndex();
+
+    @Test
+    public void getPersonsWithTag_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tagIndex.getPersonsWithTag(null));
+    }
+
+    @Test
+    public void getPersonsWithTag_unknownTag_returnsEmptySet() {
+        tagIndex.add(ALICE);
+        assertTrue(tagIndex.getPersonsWithTag(new Tag("vip")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithTag_differentCase_returnsTaggedPersons() {
+        tagIndex.add(ALICE);
+        tagIndex.add(BENSON);
+        tagIndex.add(CARL);
+        assertEquals(Set.of(ALICE, BENSON), tagIndex.getPersonsWithTag(new Tag("FRIENDS")));
+        assertEquals(Set.of(BENSON), tagIndex.getPersonsWithTag(new Tag("owesmoney")));
+    }
+
+    @Test
+    public void remove_taggedPerson_personNoLongerIndexed() {
+        tagIndex.add(ALICE);
+        tagIndex.add(BENSON);
+        tagIndex.remove(BENSON);
+        assertEquals(Set.of(ALICE), tagIndex.getPersonsWithTag(new Tag("friends")));
+        assertTrue(tagIndex.getPersonsWithTag(new Tag("owesMoney")).isEmpty());
+    }
+
+    @Test
+    public void reset_replacesIndexedPersons() {
+        tagIndex.add(ALICE);
+        tagIndex.reset(Arrays.<Person>asList(CARL));
+        assertTrue(tagIndex.getPersonsWithTag(new Tag("friends")).isEmpty());
+        assertEquals(Collections.singleton(CARL), tagIndex.getPersonsWithTag(new Tag("vip")));
+    }
+
+    @Test
+    public void getPersonsWithTag_modifySet_throwsUnsupportedOperationException() {
+        tagIndex.add(ALICE);
+        assertThrows(UnsupportedOperationException.class, () ->
+                tagIndex.getPersonsWithTag(new Tag("friends")).clear());
+    }
+}
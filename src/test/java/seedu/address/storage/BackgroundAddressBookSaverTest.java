@@ -0,0 +1,153 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BackgroundAddressBookSaverTest {
+
+    private static final long LONG_DELAY_MILLIS = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    private final AtomicInteger saveCount = new AtomicInteger();
+
+    private StorageManager createStorage(boolean shouldFail) {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (shouldFail) {
+                    throw new IOException("dummy IO exception");
+                }
+                super.saveAddressBook(addressBook, filePath);
+                saveCount.incrementAndGet();
+            }
+        };
+        return new StorageManager(addressBookStorage, new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+    }
+
+    @Test
+    public void requestSave_burstOfChanges_coalescedIntoOneWrite() throws Exception {
+        StorageManager storage = createStorage(false);
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, LONG_DELAY_MILLIS, 100);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.requestSave(addressBook.getSnapshot());
+        addressBook.addPerson(HOON);
+        saver.requestSave(addressBook.getSnapshot());
+        addressBook.addPerson(IDA);
+        saver.requestSave(addressBook.getSnapshot());
+        assertTrue(saver.hasPendingChanges());
+        assertEquals(0, saveCount.get());
+
+        saver.close();
+        assertEquals(1, saveCount.get());
+        assertFalse(saver.hasPendingChanges());
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void requestSave_laterChanges_notWritten() throws Exception {
+        StorageManager storage = createStorage(false);
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, LONG_DELAY_MILLIS, 100);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.requestSave(addressBook.getSnapshot());
+        addressBook.removePerson(ALICE);
+        saver.close();
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void requestSave_maxPendingChangesReached_writtenWithoutDelay() throws Exception {
+        StorageManager storage = createStorage(false);
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, LONG_DELAY_MILLIS, 2);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.requestSave(addressBook.getSnapshot());
+        saver.requestSave(addressBook.getSnapshot());
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (saveCount.get() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, saveCount.get());
+        saver.close();
+    }
+
+    @Test
+    public void hasPendingChanges_saveInProgress_true() throws Exception {
+        CountDownLatch saveStarted = new CountDownLatch(1);
+        CountDownLatch saveAllowed = new CountDownLatch(1);
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveStarted.countDown();
+                try {
+                    saveAllowed.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json"))), 0, 100);
+
+        saver.requestSave(getTypicalAddressBook().getSnapshot());
+        assertTrue(saveStarted.await(5, TimeUnit.SECONDS));
+        assertTrue(saver.hasPendingChanges());
+
+        saveAllowed.countDown();
+        saver.close();
+        assertFalse(saver.hasPendingChanges());
+    }
+
+    @Test
+    public void requestSave_storageThrowsRuntimeException_errorReportedAndChangesKept() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                throw new IllegalStateException("dummy runtime exception");
+            }
+        };
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json"))), 0, 100);
+        CountDownLatch errorReported = new CountDownLatch(1);
+        saver.setErrorHandler(e -> errorReported.countDown());
+
+        saver.requestSave(getTypicalAddressBook().getSnapshot());
+        assertTrue(errorReported.await(5, TimeUnit.SECONDS));
+        assertTrue(saver.hasPendingChanges());
+        assertThrows(IOException.class, saver::close);
+    }
+
+    @Test
+    public void requestSave_storageFails_errorReportedAndChangesKept() throws Exception {
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(createStorage(true), 0, 100);
+        CountDownLatch errorReported = new CountDownLatch(1);
+        saver.setErrorHandler(e -> errorReported.countDown());
+
+        saver.requestSave(getTypicalAddressBook().getSnapshot());
+        assertTrue(errorReported.await(5, TimeUnit.SECONDS));
+        assertTrue(saver.hasPendingChanges());
+        assertThrows(IOException.class, saver::close);
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryPath_jsonFile_siblingBinary() {
+        assertEquals(testFolder.resolve("addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryPath(testFolder.resolve("addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("addressbook.json")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void readFile_wholeFile_heapBufferWithAllBytes() throws Exception {
+        Path path = testFolder.resolve("data.bin");
+        byte[] content = new byte[100_000];
+        Arrays.fill(content, (byte) 7);
+        Files.write(path, content);
+
+        ByteBuffer buffer = BinaryAddressBookStorage.readFile(path);
+        assertFalse(buffer.isDirect());
+        assertEquals(ByteBuffer.wrap(content), buffer);
+    }
+
+    @Test
+    public void readAddressBook_onlyJsonFile_migrated() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, 0);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        storage.saveAddressBook(readBack);
+        Files.delete(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(new PersonBuilder(HOON).withRemark("Café 😀 日本").build());
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, 0);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void readAddressBook_entriesBeyondLimit_skipped() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new BinaryAddressBookStorage(filePath, 0).saveAddressBook(getTypicalAddressBook());
+
+        AddressBook readBack = new AddressBook(new BinaryAddressBookStorage(filePath, 2).readAddressBook().get());
+        assertEquals(List.of(ALICE, BENSON), readBack.getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_wrongMagic_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Files.write(BinaryAddressBookStorage.getBinaryPath(filePath), new byte[] {1, 2, 3, 4, 0, 0, 0, 1});
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path binaryPath = BinaryAddressBookStorage.getBinaryPath(filePath);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(binaryPath);
+        Files.write(binaryPath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void convert_jsonSerializableRoundTrip_samePersons() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryAddressBookStorage.fromJsonSerializable(new JsonSerializableAddressBook(original), out);
+
+        JsonSerializableAddressBook converted =
+                BinaryAddressBookStorage.toJsonSerializable(ByteBuffer.wrap(out.toByteArray()));
+        assertEquals(original, converted.toModelType());
+    }
+
+}
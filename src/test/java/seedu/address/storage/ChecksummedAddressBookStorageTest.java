@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+public class ChecksummedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getRecordsPath_jsonFile_siblingJsonLines() {
+        assertEquals(testFolder.resolve("addressbook.jsonl"),
+                ChecksummedAddressBookStorage.getRecordsPath(testFolder.resolve("addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new ChecksummedAddressBookStorage(testFolder.resolve("addressbook.json")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void readAddressBook_onlyJsonFile_migrated() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        ChecksummedAddressBookStorage storage = new ChecksummedAddressBookStorage(filePath, 0);
+        storage.saveAddressBook(new AddressBook(storage.readAddressBook().get()));
+        Files.delete(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_damagedRecords_intactRecordsRecovered() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path recordsPath = ChecksummedAddressBookStorage.getRecordsPath(filePath);
+        ChecksummedAddressBookStorage storage = new ChecksummedAddressBookStorage(filePath, 0);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        List<String> lines = new ArrayList<>(Files.readAllLines(recordsPath, StandardCharsets.UTF_8));
+        // A flipped character in Benson's record, and Carl's and Daniel's records run together by a lost line break
+        lines.set(2, lines.get(2).replace("Benson", "Bensom"));
+        lines.set(3, lines.get(3) + lines.remove(4).substring(5));
+        lines.add(5, "garbage in the middle");
+        Files.write(recordsPath, lines, StandardCharsets.UTF_8);
+
+        List<Person> expected = new ArrayList<>(getTypicalAddressBook().getPersonList());
+        expected.removeAll(List.of(BENSON, CARL, DANIEL));
+        assertEquals(expected, storage.readAddressBook().get().getPersonList());
+        assertTrue(Files.exists(ChecksummedAddressBookStorage.getDamagedCopyPath(recordsPath)));
+    }
+
+    @Test
+    public void readAddressBook_truncatedLastRecord_otherRecordsLoaded() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path recordsPath = ChecksummedAddressBookStorage.getRecordsPath(filePath);
+        ChecksummedAddressBookStorage storage = new ChecksummedAddressBookStorage(filePath, 0);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(recordsPath);
+        Files.write(recordsPath, Arrays.copyOf(bytes, bytes.length - 10));
+
+        List<Person> persons = getTypicalAddressBook().getPersonList();
+        assertEquals(persons.subList(0, persons.size() - 1), storage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_noIntactRecords_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Files.writeString(ChecksummedAddressBookStorage.getRecordsPath(filePath), "{\"persons\": [\n");
+        assertThrows(DataLoadingException.class, () -> new ChecksummedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readRecords_manyRecords_allVerified() throws Exception {
+        List<Person> persons = Collections.nCopies(2_000, ALICE);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ChecksummedAddressBookStorage.writeRecords(persons, out);
+
+        // The duplicates are all rejected by the loader, but every record is still read and verified
+        ChecksummedAddressBookStorage.RecoveryReport report = ChecksummedAddressBookStorage.readRecords(
+                new ByteArrayInputStream(out.toByteArray()), new JsonAdaptedPersonLoader(0));
+        assertEquals(persons.size(), report.getIntactRecordCount());
+        assertEquals(0, report.getDamagedLineCount());
+    }
+
+}
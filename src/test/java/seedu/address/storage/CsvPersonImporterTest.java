@@ -0,0 +1,122 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.person.Person;
+import seedu.address.storage.CsvPersonImporter.ImportResult;
+import seedu.address.testutil.PersonBuilder;
+
+public class CsvPersonImporterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path writeCsv(String... lines) throws IOException {
+        Path filePath = testFolder.resolve("seniors.csv");
+        Files.write(filePath, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return filePath;
+    }
+
+    @Test
+    public void importPersons_validRows_personsInFileOrder() throws Exception {
+        Path filePath = writeCsv("Phone,Name,Address,Email,Tags,Unknown,remark",
+                "84824241,Hoon Meier,little india,stefan@example.com,,x,She likes aardvarks.",
+                "",
+                "84821311,Ida Mueller,chicago ave,hans@example.com,,y,She likes aardvarks.",
+                "94351253,Alice Pauline,\"123, Jurong West Ave 6, #08-111\",alice@example.com,friends; ,z,"
+                        + "She likes aardvarks.");
+
+        ImportResult result = new CsvPersonImporter(2).importPersons(filePath, person -> false);
+
+        assertEquals(Arrays.asList(HOON, IDA, ALICE), result.getPersons());
+        assertEquals(3, result.getRowCount());
+        assertEquals(0, result.getRejectedCount());
+        assertEquals("", result.getRejectionReport());
+    }
+
+    @Test
+    public void importPersons_badRows_rejectedByReason() throws Exception {
+        Path filePath = writeCsv("name,phone,address",
+                "Hoon Meier,84824241,little india",
+                "Hoon Meier,84824241,somewhere else",
+                "Ida Mueller,84821311,chicago ave",
+                "R@chel,94351253,street",
+                "Carl Kurz,,street");
+
+        ImportResult result = new CsvPersonImporter(3).importPersons(filePath, IDA::isSamePerson);
+
+        assertEquals(Collections.singletonList(new PersonBuilder(HOON).withEmail("").withRemark("").build()),
+                result.getPersons());
+        assertEquals(5, result.getRowCount());
+        assertEquals(4, result.getRejectedCount());
+        String report = result.getRejectionReport();
+        assertTrue(report.contains(LoadDiagnostics.REASON_DUPLICATE + ": 1"), report);
+        assertTrue(report.contains(LoadDiagnostics.REASON_EXISTING + ": 1"), report);
+        assertTrue(report.contains("Invalid Name: 1"), report);
+        assertTrue(report.contains("Missing Phone field: 1"), report);
+        assertTrue(report.contains("[Entry 3] " + LoadDiagnostics.REASON_DUPLICATE), report);
+    }
+
+    @Test
+    public void importPersons_missingRequiredColumn_throwsDataLoadingException() throws Exception {
+        Path filePath = writeCsv("name,phone", "Hoon Meier,84824241");
+        assertThrows(DataLoadingException.class, () -> new CsvPersonImporter().importPersons(filePath, p -> false));
+    }
+
+    @Test
+    public void importPersons_emptyFile_throwsDataLoadingException() throws Exception {
+        Path filePath = writeCsv();
+        assertThrows(DataLoadingException.class, () -> new CsvPersonImporter().importPersons(filePath, p -> false));
+    }
+
+    @Test
+    public void importPersons_missingFile_throwsDataLoadingException() {
+        Path filePath = testFolder.resolve("missing.csv");
+        assertThrows(DataLoadingException.class, () -> new CsvPersonImporter().importPersons(filePath, p -> false));
+    }
+
+    @Test
+    public void importPersons_manyChunks_fileOrderKept() throws Exception {
+        int rowCount = CsvPersonImporter.CHUNK_SIZE * CsvPersonImporter.QUEUE_CAPACITY * 3 + 7;
+        String[] lines = new String[rowCount + 1];
+        lines[0] = "name,phone,address";
+        for (int i = 0; i < rowCount; i++) {
+            lines[i + 1] = "Senior " + toLetters(i) + "," + (80000000 + i) + ",Blk " + i + " Bedok North";
+        }
+        Path filePath = writeCsv(lines);
+
+        ImportResult result = new CsvPersonImporter(4).importPersons(filePath, person -> false);
+
+        List<Person> persons = result.getPersons();
+        assertEquals(rowCount, persons.size());
+        for (int i = 0; i < rowCount; i++) {
+            assertEquals(String.valueOf(80000000 + i), persons.get(i).getPhone().value);
+        }
+    }
+
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.toString();
+    }
+}
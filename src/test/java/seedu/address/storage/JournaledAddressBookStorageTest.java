@@ -0,0 +1,208 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.Config.DurabilityPolicy;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidCompactionThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new JournaledAddressBookStorage(testFolder.resolve("addressbook.json"), 0, 0));
+    }
+
+    @Test
+    public void getJournalPath_jsonFile_siblingJournal() {
+        assertEquals(testFolder.resolve("addressbook.journal"),
+                JournaledAddressBookStorage.getJournalPath(testFolder.resolve("addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(testFolder.resolve("addressbook.json")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_mutations_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 0);
+        storage.saveAddressBook(addressBook);
+        String snapshot = Files.readString(filePath);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Person editedCarl = new PersonBuilder(CARL).withRemark("Prefers morning visits").build();
+        addressBook.setPerson(CARL, editedCarl);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        // An unchanged address book appends nothing
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(1 + 3, Files.readAllLines(JournaledAddressBookStorage.getJournalPath(filePath)).size());
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath, 0).readAddressBook()
+                .get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_continuesJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JournaledAddressBookStorage(filePath, 0).saveAddressBook(getTypicalAddressBook());
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 0);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.removePerson(BENSON);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(1 + 2, Files.readAllLines(JournaledAddressBookStorage.getJournalPath(filePath)).size());
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath, 0).readAddressBook()
+                .get()));
+    }
+
+    @Test
+    public void saveAddressBook_thresholdExceeded_compacted() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 0, 2);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(CARL);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(1, Files.readAllLines(JournaledAddressBookStorage.getJournalPath(filePath)).size());
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath, 0).readAddressBook().get()));
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath, 0).readAddressBook()
+                .get()));
+    }
+
+    @Test
+    public void saveAddressBook_overPrettyPrintLimit_compactSnapshot() throws Exception {
+        Path prettyFilePath = testFolder.resolve("pretty.json");
+        Path compactFilePath = testFolder.resolve("compact.json");
+        AddressBook original = getTypicalAddressBook();
+        int personCount = original.getPersonList().size();
+
+        new JournaledAddressBookStorage(prettyFilePath, 0, 2, personCount).saveAddressBook(original);
+        new JournaledAddressBookStorage(compactFilePath, 0, 2, personCount - 1).saveAddressBook(original);
+
+        assertTrue(Files.readAllLines(prettyFilePath).size() > personCount);
+        assertEquals(1, Files.readAllLines(compactFilePath).size());
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(compactFilePath, 0).readAddressBook()
+                .get()));
+    }
+
+    @Test
+    public void saveAddressBook_everyDurabilityPolicy_journalReadBack() throws Exception {
+        for (DurabilityPolicy durabilityPolicy : DurabilityPolicy.values()) {
+            Path filePath = testFolder.resolve(durabilityPolicy + ".json");
+            JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 0,
+                    JournaledAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD,
+                    Config.DEFAULT_PRETTY_PRINT_MAX_PERSONS, durabilityPolicy);
+            AddressBook addressBook = getTypicalAddressBook();
+
+            storage.saveAddressBook(addressBook);
+            addressBook.addPerson(HOON);
+            storage.saveAddressBook(addressBook);
+
+            assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath, 0).readAddressBook()
+                    .get()));
+        }
+    }
+
+    @Test
+    public void saveAddressBook_batchedBurst_lastAppendForcedLater() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 0,
+                JournaledAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD, Config.DEFAULT_PRETTY_PRINT_MAX_PERSONS,
+                DurabilityPolicy.BATCHED);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        storage.saveAddressBook(addressBook);
+        assertFalse(storage.hasDeferredForce());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertTrue(storage.hasDeferredForce());
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (storage.hasDeferredForce() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(storage.hasDeferredForce());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_dropped() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 0);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        Files.write(JournaledAddressBookStorage.getJournalPath(filePath), List.of("{\"op\":\"add\",\"ind"),
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath, 0).readAddressBook()
+                .get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidEntry_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JournaledAddressBookStorage(filePath, 0).saveAddressBook(getTypicalAddressBook());
+
+        Files.write(JournaledAddressBookStorage.getJournalPath(filePath), List.of("{\"op\":\"remove\",\"index\":99}"),
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        assertThrows(DataLoadingException.class, () ->
+                new JournaledAddressBookStorage(filePath, 0).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_snapshotReplaced_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 0);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        // Simulates a compaction interrupted after the new snapshot was written
+        new JsonAddressBookStorage(filePath, 0).saveAddressBook(addressBook);
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath, 0).readAddressBook()
+                .get()));
+    }
+}
@@ -0,0 +1,130 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+
+public class JsonAdaptedPersonLoaderTest {
+
+    private static final int SMALL_ENTRY_COUNT = 25_000;
+    private static final int LARGE_ENTRY_COUNT = 4 * SMALL_ENTRY_COUNT;
+    private static final int TIMING_RUNS = 3;
+
+    @Test
+    public void load_samePhoneAndNameInOtherCase_duplicateSkipped() throws Exception {
+        JsonAdaptedPersonLoader loader = new JsonAdaptedPersonLoader(0);
+        loader.load(createPerson("Alice Pauline", "94351253"));
+        loader.load(createPerson("ALICE PAULINE", "94351253"));
+        loader.load(createPerson("Alice Pauline", "87654321"));
+
+        AddressBook addressBook = loader.finish();
+        assertEquals(3, loader.getEntryCount());
+        assertEquals(2, addressBook.getPersonList().size());
+    }
+
+    @Test
+    public void load_duplicatesAcrossBatches_firstEntryKept() throws Exception {
+        JsonAdaptedPersonLoader loader = new JsonAdaptedPersonLoader(0);
+        for (int i = 0; i < 3000; i++) {
+            String email = "entry" + toLetters(i) + "@example.com";
+            loader.load(new JsonAdaptedPerson("Person " + toLetters(i % 1000), "91234567", email,
+                    "123, Jurong West Ave 6", "", List.of()));
+        }
+
+        AddressBook addressBook = loader.finish();
+        assertEquals(1000, addressBook.getPersonList().size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("entry" + toLetters(i) + "@example.com",
+                    addressBook.getPersonList().get(i).getEmail().value);
+        }
+    }
+
+    @Test
+    public void load_invalidEntriesBeforeLimit_limitCountsValidEntriesOnly() throws Exception {
+        JsonAdaptedPersonLoader loader = new JsonAdaptedPersonLoader(3);
+        loader.load(createPerson("Alice", "91234567"));
+        loader.load(createPerson("Invalid 1", "91234567"));
+        loader.load(createPerson("Benson", "91234567"));
+        loader.load(createPerson("Carl", "91234567"));
+        assertTrue(loader.isFull());
+        loader.load(createPerson("Daniel", "91234567"));
+
+        AddressBook addressBook = loader.finish();
+        assertEquals(5, loader.getEntryCount());
+        assertEquals(3, addressBook.getPersonList().size());
+    }
+
+    @Test
+    @Tag("slow")
+    public void load_fourTimesTheEntries_aboutFourTimesTheTime() throws Exception {
+        List<JsonAdaptedPerson> smallPersons = createPersons(SMALL_ENTRY_COUNT);
+        List<JsonAdaptedPerson> largePersons = createPersons(LARGE_ENTRY_COUNT);
+        timeLoad(smallPersons, SMALL_ENTRY_COUNT);
+
+        long smallNanos = timeLoad(smallPersons, SMALL_ENTRY_COUNT);
+        long largeNanos = timeLoad(largePersons, LARGE_ENTRY_COUNT);
+
+        // A linear loader takes about 4 times as long for 4 times the entries, a quadratic one about 16 times
+        assertTrue(largeNanos < 8 * smallNanos,
+                "loading " + LARGE_ENTRY_COUNT + " entries took " + largeNanos / 1_000_000 + " ms, but "
+                + SMALL_ENTRY_COUNT + " entries took " + smallNanos / 1_000_000 + " ms");
+    }
+
+    /**
+     * Returns the shortest time of a few runs of loading {@code persons}, checking that each run keeps
+     * {@code expectedPersonCount} persons.
+     */
+    private static long timeLoad(List<JsonAdaptedPerson> persons, int expectedPersonCount) throws Exception {
+        long shortestNanos = Long.MAX_VALUE;
+        for (int run = 0; run < TIMING_RUNS; run++) {
+            long start = System.nanoTime();
+            JsonAdaptedPersonLoader loader = new JsonAdaptedPersonLoader(0);
+            for (JsonAdaptedPerson person : persons) {
+                loader.load(person);
+            }
+            AddressBook addressBook = loader.finish();
+            shortestNanos = Math.min(shortestNanos, System.nanoTime() - start);
+            assertEquals(expectedPersonCount, addressBook.getPersonList().size());
+        }
+        return shortestNanos;
+    }
+
+    /**
+     * Returns {@code count} distinct persons, followed by a repeat of every hundredth of them so that the duplicate
+     * check is exercised as well.
+     */
+    private static List<JsonAdaptedPerson> createPersons(int count) {
+        List<JsonAdaptedPerson> persons = new ArrayList<>(count + count / 100);
+        for (int i = 0; i < count; i++) {
+            persons.add(createPerson("Person " + toLetters(i), String.valueOf(80000000 + i)));
+        }
+        for (int i = 0; i < count; i += 100) {
+            persons.add(createPerson("PERSON " + toLetters(i).toUpperCase(), String.valueOf(80000000 + i)));
+        }
+        return persons;
+    }
+
+    private static JsonAdaptedPerson createPerson(String name, String phone) {
+        return new JsonAdaptedPerson(name, phone, "person@example.com", "123, Jurong West Ave 6", "", List.of());
+    }
+
+    /**
+     * Returns a distinct run of lower-case letters for every {@code value}, since names cannot contain digits.
+     */
+    private static String toLetters(int value) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + value % 26));
+            value /= 26;
+        } while (value > 0);
+        return letters.toString();
+    }
+
+}
@@ -5,17 +5,21 @@ import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORM
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.exceptions.IllegalValueException.ErrorCode;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Remark;
+import seedu.address.model.tag.Tag;
 
 public class JsonAdaptedPersonTest {
     private static final String INVALID_NAME = "R@chel";
@@ -211,6 +215,22 @@ public class JsonAdaptedPersonTest {
         assertThrows(IllegalValueException.class, Remark.MESSAGE_CONSTRAINTS, person::toModelType);
     }
 
+    @Test
+    public void toModelType_invalidTags_throwsInvalidTagField() {
+        for (String invalidTag : new String[] {"   ", "t".repeat(31), null}) {
+            List<JsonAdaptedTag> invalidTags = new ArrayList<>(VALID_TAGS);
+            invalidTags.add(new JsonAdaptedTag(invalidTag));
+            JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                    VALID_REMARK, invalidTags);
+
+            IllegalValueException e = org.junit.jupiter.api.Assertions.assertThrows(IllegalValueException.class,
+                    person::toModelType);
+            assertEquals(Tag.MESSAGE_CONSTRAINTS, e.getMessage());
+            assertEquals(ErrorCode.INVALID_FIELD, e.getErrorCode());
+            assertEquals(Optional.of(Tag.class.getSimpleName()), e.getField());
+        }
+    }
+
     @Test
     public void toModelType_overlongName_throwsIllegalValueException() {
         String tooLong = "N".repeat(Name.MAX_LENGTH + 1);
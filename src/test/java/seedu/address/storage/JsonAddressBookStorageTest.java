@@ -2,19 +2,26 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.Config.DurabilityPolicy;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -60,6 +67,89 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_truncatedFile_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TruncatedAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        String json = Files.readString(filePath);
+        Files.writeString(filePath, json.substring(0, json.length() / 2));
+
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_moreEntriesThanLimit_firstEntriesLoaded() throws Exception {
+        Path filePath = testFolder.resolve("LargeAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath, 0).saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath, 3).readAddressBook().get();
+        assertEquals(original.getPersonList().subList(0, 3), readBack.getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_unknownFields_ignored() throws Exception {
+        Path filePath = testFolder.resolve("ExtendedAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        String json = Files.readString(filePath);
+        Files.writeString(filePath, "{ \"version\" : { \"major\" : 2 }," + json.substring(json.indexOf('{') + 1));
+
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_largerThanPrettyPrintLimit_compact() throws Exception {
+        Path prettyFilePath = testFolder.resolve("PrettyAddressBook.json");
+        Path compactFilePath = testFolder.resolve("CompactAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        int personCount = original.getPersonList().size();
+
+        new JsonAddressBookStorage(prettyFilePath, 0, personCount).saveAddressBook(original);
+        new JsonAddressBookStorage(compactFilePath, 0, personCount - 1).saveAddressBook(original);
+
+        assertTrue(Files.readAllLines(prettyFilePath).size() > personCount);
+        assertEquals(1, Files.readAllLines(compactFilePath).size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(compactFilePath, 0).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_everyDurabilityPolicy_savedAtomically() throws Exception {
+        for (DurabilityPolicy durabilityPolicy : DurabilityPolicy.values()) {
+            Path filePath = testFolder.resolve(durabilityPolicy + ".json");
+            JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, 0,
+                    Config.DEFAULT_PRETTY_PRINT_MAX_PERSONS, durabilityPolicy);
+            AddressBook original = getTypicalAddressBook();
+
+            storage.saveAddressBook(original);
+            original.addPerson(HOON);
+            storage.saveAddressBook(original);
+
+            assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+            assertFalse(Files.exists(testFolder.resolve(durabilityPolicy + ".json.tmp")));
+        }
+    }
+
+    @Test
+    public void saveAddressBook_batchedBurst_lastSaveForcedLater() throws Exception {
+        Path filePath = testFolder.resolve("batched.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, 0,
+                Config.DEFAULT_PRETTY_PRINT_MAX_PERSONS, DurabilityPolicy.BATCHED);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertFalse(storage.hasDeferredForce());
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(storage.hasDeferredForce());
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (storage.hasDeferredForce() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(storage.hasDeferredForce());
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -103,6 +193,20 @@ public class JsonAddressBookStorageTest {
         }
     }
 
+    @Test
+    public void writeAddressBook_manyPersons_notFlushedPerPerson() throws Exception {
+        int[] flushCount = new int[1];
+        OutputStream out = new FilterOutputStream(new ByteArrayOutputStream()) {
+            @Override
+            public void flush() {
+                flushCount[0]++;
+            }
+        };
+
+        JsonAddressBookStorage.writeAddressBook(getTypicalAddressBook().getPersonList(), out, false);
+        assertTrue(flushCount[0] <= 1, "flushed " + flushCount[0] + " times");
+    }
+
     @Test
     public void saveAddressBook_nullFilePath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(new AddressBook(), null));
@@ -5,10 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.testutil.Assert.assertThrows;
 
-import java.lang.reflect.Method;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 
 import org.junit.jupiter.api.Test;
 
@@ -242,60 +240,4 @@ public class JsonSerializableAddressBookTest {
         assertEquals(0, model.getPersonList().size());
     }
 
-    // Test the error extraction methods using reflection
-    @Test
-    public void extractPersonInfoFromError_withPersonInfo_returnsName() throws Exception {
-        JsonSerializableAddressBook addressBook = new JsonSerializableAddressBook(new ArrayList<>());
-
-        Method method = JsonSerializableAddressBook.class.getDeclaredMethod("extractPersonInfoFromError", String.class);
-        method.setAccessible(true);
-
-        String result = (String) method.invoke(addressBook, "Invalid phone for person: John Doe");
-        assertEquals("John Doe", result);
-    }
-
-    @Test
-    public void extractPersonInfoFromError_withoutPersonInfo_returnsUnknown() throws Exception {
-        JsonSerializableAddressBook addressBook = new JsonSerializableAddressBook(new ArrayList<>());
-
-        Method method = JsonSerializableAddressBook.class.getDeclaredMethod("extractPersonInfoFromError", String.class);
-        method.setAccessible(true);
-
-        String result = (String) method.invoke(addressBook, "Generic error message");
-        assertEquals("Unknown", result);
-    }
-
-    @Test
-    public void extractReasonFromError_variousErrorTypes_returnsCleanReasons() throws Exception {
-        JsonSerializableAddressBook addressBook = new JsonSerializableAddressBook(new ArrayList<>());
-
-        Method method = JsonSerializableAddressBook.class.getDeclaredMethod("extractReasonFromError", String.class);
-        method.setAccessible(true);
-
-        // Test various error patterns
-        String result = (String) method.invoke(addressBook, "Missing required field: name");
-        assertEquals("Missing name field", result);
-
-        result = (String) method.invoke(addressBook, "Missing required field: phone");
-        assertEquals("Missing phone field", result);
-
-        result = (String) method.invoke(addressBook, "Missing required field: address");
-        assertEquals("Missing address field", result);
-
-        result = (String) method.invoke(addressBook, "Invalid name format");
-        assertEquals("Invalid name format", result);
-
-        result = (String) method.invoke(addressBook, "Invalid phone format");
-        assertEquals("Invalid phone number", result);
-
-        result = (String) method.invoke(addressBook, "Invalid address format");
-        assertEquals("Invalid address format", result);
-
-        result = (String) method.invoke(addressBook, "Invalid email format");
-        assertEquals("Invalid email format", result);
-
-        result = (String) method.invoke(addressBook, "Some other error");
-        assertEquals("Some other error", result);
-    }
-
 }
@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.exceptions.IllegalValueException.ErrorCode;
+
+public class LoadDiagnosticsTest {
+
+    @Test
+    public void getReason_errorCodes_reasonFromCodeAndField() {
+        assertEquals("Missing Phone field", LoadDiagnostics.getReason(
+                new IllegalValueException("any message", ErrorCode.MISSING_FIELD, "Phone")));
+        assertEquals("Invalid Name", LoadDiagnostics.getReason(
+                new IllegalValueException("any message", ErrorCode.INVALID_FIELD, "Name")));
+        assertEquals("Some other error", LoadDiagnostics.getReason(new IllegalValueException("Some other error")));
+    }
+
+    @Test
+    public void record_manyEntries_countedPerReasonWithFirstSamples() {
+        LoadDiagnostics diagnostics = new LoadDiagnostics(2);
+        for (int i = 1; i <= 1000; i++) {
+            diagnostics.recordInvalid(i, "Name" + i,
+                    new IllegalValueException("any message", ErrorCode.INVALID_FIELD, "Phone"));
+        }
+        diagnostics.recordDuplicate(1001, ALICE);
+
+        assertEquals(Map.of("Invalid Phone", 1000, LoadDiagnostics.REASON_DUPLICATE, 1),
+                diagnostics.getCountsByReason());
+        assertEquals(List.of("[Entry 1] Invalid Phone - Name: 'Name1'", "[Entry 2] Invalid Phone - Name: 'Name2'"),
+                diagnostics.getSamples());
+        assertTrue(diagnostics.toReport().contains("First 2 of 1001:"));
+    }
+
+    @Test
+    public void loader_invalidAndDuplicateEntries_reportedByReason() throws Exception {
+        JsonAdaptedPersonLoader loader = new JsonAdaptedPersonLoader(0);
+        String address = "123, Jurong West Ave 6";
+        loader.load(new JsonAdaptedPerson("Alice", "91234567", "", address, "", List.of()));
+        loader.load(new JsonAdaptedPerson("Alice", "91234567", "", address, "", List.of()));
+        loader.load(new JsonAdaptedPerson("Benson", null, "", address, "", List.of()));
+        loader.load(new JsonAdaptedPerson("Carl", "1234", "", address, "", List.of()));
+        loader.load(new JsonAdaptedPerson("Daniel", "12", "", address, "", List.of()));
+        loader.finish();
+
+        LoadDiagnostics diagnostics = loader.getDiagnostics();
+        assertEquals(1, diagnostics.getCount(LoadDiagnostics.REASON_DUPLICATE));
+        assertEquals(1, diagnostics.getCount("Missing Phone field"));
+        assertEquals(2, diagnostics.getCount("Invalid Phone"));
+        assertEquals("[Entry 2] " + LoadDiagnostics.REASON_DUPLICATE + " - Name: 'Alice', Phone: '91234567'",
+                diagnostics.getSamples().get(0));
+    }
+
+}
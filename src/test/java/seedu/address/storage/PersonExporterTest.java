@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+import seedu.address.storage.PersonExporter.Format;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonExporterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void fromFileName() {
+        assertEquals(Optional.of(Format.CSV), Format.fromFileName(Paths.get("data", "Seniors.CSV")));
+        assertEquals(Optional.of(Format.JSON_LINES), Format.fromFileName(Paths.get("seniors.jsonl")));
+        assertFalse(Format.fromFileName(Paths.get("seniors.json")).isPresent());
+        assertFalse(Format.fromFileName(Paths.get("csv")).isPresent());
+    }
+
+    @Test
+    public void export_csv_importedBackUnchanged() throws Exception {
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        persons.add(new PersonBuilder().withName("Ramesh Kumar").withPhone("91234567")
+                .withAddress("Blk 30, Geylang \"Street\" 29").withTags("bilingual", "hard-of-hearing").build());
+        Path filePath = testFolder.resolve("seniors.csv");
+
+        PersonExporter.export(persons, filePath, Format.CSV, count -> {});
+
+        assertEquals(persons, new CsvPersonImporter().importPersons(filePath, person -> false).getPersons());
+    }
+
+    @Test
+    public void export_jsonLines_onePersonPerLine() throws Exception {
+        List<Person> persons = getTypicalPersons();
+        Path filePath = testFolder.resolve("seniors.jsonl");
+
+        PersonExporter.export(persons, filePath, Format.JSON_LINES, count -> {});
+
+        List<String> lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        assertEquals(persons.size(), lines.size());
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(persons.get(i), JsonUtil.fromJsonString(lines.get(i), JsonAdaptedPerson.class).toModelType());
+        }
+    }
+
+    @Test
+    public void export_noPersons_emptyFile() throws Exception {
+        Path filePath = testFolder.resolve("seniors.jsonl");
+        List<Integer> progress = new ArrayList<>();
+        PersonExporter.export(Collections.emptyList(), filePath, Format.JSON_LINES, progress::add);
+        assertEquals(0, Files.size(filePath));
+        assertEquals(Collections.singletonList(0), progress);
+    }
+
+    @Test
+    public void export_manyPersons_progressReportedInSteps() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 95; i++) {
+            persons.add(new PersonBuilder().withPhone(String.valueOf(80000000 + i)).build());
+        }
+        List<Integer> progress = new ArrayList<>();
+
+        PersonExporter.export(persons, testFolder.resolve("seniors.csv"), Format.CSV, progress::add);
+
+        assertEquals(PersonExporter.PROGRESS_STEPS, progress.size());
+        assertEquals(10, (int) progress.get(0));
+        assertEquals(95, (int) progress.get(progress.size() - 1));
+    }
+}
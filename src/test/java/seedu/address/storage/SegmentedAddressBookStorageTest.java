@@ -0,0 +1,144 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class SegmentedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidSegmentSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new SegmentedAddressBookStorage(testFolder.resolve("addressbook.json"), 0, 0));
+    }
+
+    @Test
+    public void getSegmentDirectory_jsonFile_siblingDirectory() {
+        Path filePath = testFolder.resolve("addressbook.json");
+        assertEquals(testFolder.resolve("addressbook.segments"),
+                SegmentedAddressBookStorage.getSegmentDirectory(filePath));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        assertFalse(new SegmentedAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, 0, 3);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = new SegmentedAddressBookStorage(filePath, 0, 3).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        readBack = new SegmentedAddressBookStorage(filePath, 0, 3).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_singleEdit_onlyChangedSegmentWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, 0, 2);
+
+        storage.saveAddressBook(addressBook);
+        Set<String> segmentsBefore = listSegments(filePath);
+        assertEquals(4, segmentsBefore.size());
+
+        Person editedCarl = new PersonBuilder(CARL).withRemark("Prefers morning visits").build();
+        addressBook.setPerson(CARL, editedCarl);
+        storage.saveAddressBook(addressBook);
+        Set<String> segmentsAfter = listSegments(filePath);
+
+        Set<String> newSegments = new HashSet<>(segmentsAfter);
+        newSegments.removeAll(segmentsBefore);
+        assertEquals(1, newSegments.size());
+        assertEquals(segmentsBefore.size(), segmentsAfter.size());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_noSegmentWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new SegmentedAddressBookStorage(filePath, 0, 2).saveAddressBook(getTypicalAddressBook());
+        Set<String> segmentsBefore = listSegments(filePath);
+
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, 0, 2);
+        storage.saveAddressBook(storage.readAddressBook().get());
+        assertEquals(segmentsBefore, listSegments(filePath));
+    }
+
+    @Test
+    public void readAddressBook_existingJsonFile_migrated() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath, 0).saveAddressBook(original);
+
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, 0);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        storage.saveAddressBook(readBack);
+        assertTrue(Files.exists(SegmentedAddressBookStorage.getSegmentDirectory(filePath)
+                .resolve(SegmentedAddressBookStorage.MANIFEST_FILE_NAME)));
+        assertEquals(original, new AddressBook(new SegmentedAddressBookStorage(filePath, 0).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_exceedsLimit_truncated() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new SegmentedAddressBookStorage(filePath, 2).saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new SegmentedAddressBookStorage(filePath, 0).readAddressBook().get();
+        assertEquals(original.getPersonList().subList(0, 2), readBack.getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_exceedsLimitAcrossSegments_firstEntriesLoaded() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new SegmentedAddressBookStorage(filePath, 0, 2).saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new SegmentedAddressBookStorage(filePath, 3, 2).readAddressBook().get();
+        assertEquals(original.getPersonList().subList(0, 3), readBack.getPersonList());
+    }
+
+    private static Set<String> listSegments(Path filePath) throws IOException {
+        try (Stream<Path> files = Files.list(SegmentedAddressBookStorage.getSegmentDirectory(filePath))) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(".jsonl"))
+                    .collect(Collectors.toSet());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+
+public class WarmStartAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private WarmStartAddressBookStorage createStorage(Path filePath, int maxPersons) {
+        return new WarmStartAddressBookStorage(new JsonAddressBookStorage(filePath, maxPersons), maxPersons);
+    }
+
+    @Test
+    public void getCachePath_jsonFile_siblingCache() {
+        assertEquals(testFolder.resolve("addressbook.cache"),
+                WarmStartAddressBookStorage.getCachePath(testFolder.resolve("addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        assertFalse(createStorage(filePath, 0).readAddressBook().isPresent());
+        assertFalse(Files.exists(WarmStartAddressBookStorage.getCachePath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_cacheMatchesFile_readFromCache() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        createStorage(filePath, 0).saveAddressBook(original);
+
+        assertTrue(WarmStartAddressBookStorage.isCacheValid(filePath));
+        assertEquals(original, new AddressBook(createStorage(filePath, 0).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_fileChangedElsewhere_readFromFileAndCacheRebuilt() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        createStorage(filePath, 0).saveAddressBook(getTypicalAddressBook());
+
+        AddressBook changed = getTypicalAddressBook();
+        changed.addPerson(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(changed);
+        assertFalse(WarmStartAddressBookStorage.isCacheValid(filePath));
+
+        assertEquals(changed, new AddressBook(createStorage(filePath, 0).readAddressBook().get()));
+        assertTrue(WarmStartAddressBookStorage.isCacheValid(filePath));
+    }
+
+    @Test
+    public void readAddressBook_damagedCache_readFromFile() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        createStorage(filePath, 0).saveAddressBook(original);
+        Path cachePath = WarmStartAddressBookStorage.getCachePath(filePath);
+        byte[] cache = Files.readAllBytes(cachePath);
+        Files.write(cachePath, Arrays.copyOf(cache, cache.length / 2));
+
+        assertEquals(original, new AddressBook(createStorage(filePath, 0).readAddressBook().get()));
+        assertTrue(WarmStartAddressBookStorage.isCacheValid(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_beyondLimit_cacheTruncated() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        createStorage(filePath, 2).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(WarmStartAddressBookStorage.isCacheValid(filePath));
+        assertEquals(List.of(ALICE, BENSON),
+                createStorage(filePath, 0).readAddressBook().get().getPersonList());
+    }
+
+}
@@ -0,0 +1,105 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WatchedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private WatchedAddressBookStorage createStorage(Path filePath) {
+        return new WatchedAddressBookStorage(new JsonAddressBookStorage(filePath), 0);
+    }
+
+    @Test
+    public void checkForOutsideChange_ownSave_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        WatchedAddressBookStorage storage = createStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        List<ReadOnlyAddressBook> reloaded = new ArrayList<>();
+        assertFalse(storage.checkForOutsideChange(reloaded::add));
+        assertTrue(reloaded.isEmpty());
+    }
+
+    @Test
+    public void checkForOutsideChange_outsideSave_reloadedOnce() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        WatchedAddressBookStorage storage = createStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        AddressBook changed = getTypicalAddressBook();
+        changed.addPerson(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(changed);
+
+        List<ReadOnlyAddressBook> reloaded = new ArrayList<>();
+        assertTrue(storage.checkForOutsideChange(reloaded::add));
+        assertFalse(storage.checkForOutsideChange(reloaded::add));
+        assertEquals(1, reloaded.size());
+        assertEquals(changed, new AddressBook(reloaded.get(0)));
+    }
+
+    @Test
+    public void isSavedSinceOutsideChange_saveAfterReload_true() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        WatchedAddressBookStorage storage = createStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        AddressBook changed = getTypicalAddressBook();
+        changed.addPerson(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(changed);
+        assertTrue(storage.checkForOutsideChange(unused -> { }));
+        assertFalse(storage.isSavedSinceOutsideChange());
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(storage.isSavedSinceOutsideChange());
+    }
+
+    @Test
+    public void checkForOutsideChange_unreadableOutsideChange_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        WatchedAddressBookStorage storage = createStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.write(filePath, "not json".getBytes());
+
+        List<ReadOnlyAddressBook> reloaded = new ArrayList<>();
+        assertFalse(storage.checkForOutsideChange(reloaded::add));
+        assertTrue(reloaded.isEmpty());
+    }
+
+    @Test
+    public void startWatching_outsideSave_handlerCalled() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        WatchedAddressBookStorage storage = createStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        CompletableFuture<ReadOnlyAddressBook> reloaded = new CompletableFuture<>();
+        storage.startWatching(reloaded::complete);
+        try {
+            AddressBook changed = getTypicalAddressBook();
+            changed.addPerson(HOON);
+            new JsonAddressBookStorage(filePath).saveAddressBook(changed);
+
+            assertEquals(changed, new AddressBook(reloaded.get(30, TimeUnit.SECONDS)));
+        } finally {
+            storage.stopWatching();
+        }
+    }
+}